@@ -0,0 +1,12 @@
+package com.gtu.auth_service.application.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class IntrospectRequestDTO {
+    private String token;
+}
@@ -0,0 +1,17 @@
+package com.gtu.auth_service.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record IntrospectionResponseDTO(
+    boolean active,
+    Long userId,
+    String email,
+    String name,
+    String role,
+    Long exp
+) {
+    public static IntrospectionResponseDTO inactive() {
+        return new IntrospectionResponseDTO(false, null, null, null, null, null);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gtu.auth_service.application.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public record JwkDTO(
+    String kty,
+    String crv,
+    String x,
+    String y,
+    String kid,
+    String use,
+    String alg
+) {}
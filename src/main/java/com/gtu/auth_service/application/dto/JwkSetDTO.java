@@ -0,0 +1,7 @@
+package com.gtu.auth_service.application.dto;
+
+import java.util.List;
+
+public record JwkSetDTO(
+    List<JwkDTO> keys
+) {}
@@ -1,9 +1,17 @@
 package com.gtu.auth_service.application.dto;
 
+import com.fasterxml.jackson.annotation.JsonInclude;
+
+@JsonInclude(JsonInclude.Include.NON_NULL)
 public record LoginResponseDTO(
     String accessToken,
     Long userId,
     String name,
     String email,
-    String role
-) {}
+    String role,
+    String refreshToken
+) {
+    public LoginResponseDTO(String accessToken, Long userId, String name, String email, String role) {
+        this(accessToken, userId, name, email, role, null);
+    }
+}
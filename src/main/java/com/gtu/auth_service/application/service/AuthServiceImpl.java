@@ -1,34 +1,43 @@
 package com.gtu.auth_service.application.service;
 
-import java.time.Instant;
-import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.springframework.stereotype.Service;
 
 import com.gtu.auth_service.application.dto.LoginRequestDTO;
 import com.gtu.auth_service.application.dto.LoginResponseDTO;
 import com.gtu.auth_service.application.dto.RegisterRequestDTO;
+import com.gtu.auth_service.domain.model.AccountType;
 import com.gtu.auth_service.domain.model.AuthUser;
 import com.gtu.auth_service.domain.model.Role;
 import com.gtu.auth_service.domain.service.AuthService;
+import com.gtu.auth_service.infrastructure.client.AccountResolver;
+import com.gtu.auth_service.infrastructure.client.LastKnownAccountStore;
 import com.gtu.auth_service.infrastructure.client.PassengerClient;
-import com.gtu.auth_service.infrastructure.client.UserClient;
+import com.gtu.auth_service.infrastructure.client.ResolvedAccount;
 import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+import com.gtu.auth_service.infrastructure.logs.LogEvent;
 
 import com.gtu.auth_service.infrastructure.logs.LogPublisher; 
 
+import feign.FeignException;
+
 @Service
 public class AuthServiceImpl implements AuthService {
     
 
-    private final UserClient userClient;
+    private final AccountResolver accountResolver;
     private final PassengerClient passengerClient;
     private final LogPublisher logPublisher;
+    private final LastKnownAccountStore lastKnownAccounts;
 
-    public AuthServiceImpl(UserClient userClient, PassengerClient passengerClient, LogPublisher logPublisher) {
-        this.userClient = userClient;
+    public AuthServiceImpl(AccountResolver accountResolver, PassengerClient passengerClient, LogPublisher logPublisher,
+                           LastKnownAccountStore lastKnownAccounts) {
+        this.accountResolver = accountResolver;
         this.passengerClient = passengerClient;
         this.logPublisher = logPublisher;
+        this.lastKnownAccounts = lastKnownAccounts;
     }
 
 
@@ -40,16 +49,12 @@ public class AuthServiceImpl implements AuthService {
     @Override
     public AuthUser findUserByEmail(String email) {
         try {
-            UserServiceResponse user = userClient.getUserByEmail(email);
+            UserServiceResponse user = lookup(AccountType.USER, email, () -> accountResolver.resolveUser(email));
             if (user != null) {
                 Role role = mapToRole(user.getRole());
-                logPublisher.sendLog(
-                Instant.now().toString(),
-                "auth-service",
-                "INFO",
-                "Login Successful",
-                Map.of("email", email, "userId", user.getId())
-                );
+                logPublisher.publish(LogEvent.of("auth-service", "INFO", "Login Successful")
+                        .detail("email", email)
+                        .detail("userId", user.getId()));
                 return new AuthUser(
                         user.getId(),
                         user.getName(),
@@ -57,7 +62,12 @@ public class AuthServiceImpl implements AuthService {
                         user.getPassword(),
                         role
                 );}
-        } catch (Exception e) {
+        } catch (FeignException e) {
+            if (e.status() >= 400 && e.status() < 500) {
+                return null;
+            }
+            throw e;
+        } catch (IllegalArgumentException e) {
             return null;
         }
         return null;
@@ -92,7 +102,8 @@ public class AuthServiceImpl implements AuthService {
 
     @Override
     public AuthUser findPassengerByEmail(String email) {
-        UserServiceResponse passengerResponse = passengerClient.getPassengerByEmail(email);
+        UserServiceResponse passengerResponse = lookup(AccountType.PASSENGER, email,
+                () -> accountResolver.resolvePassenger(email));
         if (passengerResponse != null) {
             return new AuthUser(
                     passengerResponse.getId(),
@@ -105,4 +116,22 @@ public class AuthServiceImpl implements AuthService {
         return null;
     }
 
-}
\ No newline at end of file
+    private UserServiceResponse lookup(AccountType type, String email, Supplier<Optional<ResolvedAccount>> resolve) {
+        try {
+            return resolve.get()
+                    .map(ResolvedAccount::account)
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            if (e instanceof FeignException remote && remote.status() >= 400 && remote.status() < 500) {
+                lastKnownAccounts.forget(type, email);
+                throw e;
+            }
+            UserServiceResponse stale = lastKnownAccounts.recall(type, email).orElseThrow(() -> e);
+            logPublisher.publish(LogEvent.of("auth-service", "WARN", "Serving last known account")
+                    .detail("email", email)
+                    .detail("type", type.name())
+                    .detail("error", e.getMessage()));
+            return stale;
+        }
+    }
+}
@@ -1,26 +1,62 @@
 package com.gtu.auth_service.application.service;
 
 
+import java.nio.charset.StandardCharsets;
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
 import java.util.Date;
-import javax.crypto.SecretKey;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import com.gtu.auth_service.application.dto.JwkSetDTO;
 import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.TokenClaims;
 import com.gtu.auth_service.domain.service.JwtService;
+import com.gtu.auth_service.infrastructure.mappers.JwkMapper;
+import com.gtu.auth_service.infrastructure.security.JwtKeyRing;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.io.Decoders;
-import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.LocatorAdapter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
 
 @Service
 public class JwtServiceImpl implements JwtService {
-    @Value("${JWT_SECRET}")
-    private String secretKey;
-    private long jwtExpiration;
-    public JwtServiceImpl(){
-        jwtExpiration = 30L * 60000;
+    private final JwtKeyRing keyRing;
+    private final JwtParser jwtParser;
+    private final Cache<String, TokenClaims> verifiedTokens;
+    private final Timer cachedVerifyTimer;
+    private final Timer parsedVerifyTimer;
+    private final long jwtExpiration;
+    public JwtServiceImpl(JwtKeyRing keyRing, MeterRegistry meterRegistry,
+                          @Value("${jwt.introspection-cache.max-size:10000}") long cacheMaxSize,
+                          @Value("${jwt.expiration-ms:1800000}") long jwtExpiration){
+        this.keyRing = keyRing;
+        this.jwtExpiration = jwtExpiration;
+        this.jwtParser = Jwts.parser()
+                .keyLocator(new KeyRingLocator(keyRing))
+                .build();
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaxSize)
+                .expireAfter(new UntilTokenExpiry())
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verifiedTokens, "jwt.introspection");
+        this.cachedVerifyTimer = Timer.builder("auth.token.verify").tag("cache", "hit").register(meterRegistry);
+        this.parsedVerifyTimer = Timer.builder("auth.token.verify").tag("cache", "miss").register(meterRegistry);
     }
 
     public String generateToken(AuthUser userDetails) {
@@ -31,25 +67,105 @@ public class JwtServiceImpl implements JwtService {
         return jwtExpiration;
     }
 
+    @Override
+    public JwkSetDTO getJwkSet() {
+        return new JwkSetDTO(keyRing.verificationKeys().stream()
+                .filter(key -> !key.isSymmetric())
+                .map(JwkMapper::toJwk)
+                .toList());
+    }
+
+    @Override
+    public Optional<TokenClaims> verifyToken(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        long start = System.nanoTime();
+        String cacheKey = hash(token);
+        TokenClaims cached = verifiedTokens.getIfPresent(cacheKey);
+        if (cached != null) {
+            cachedVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            return Optional.of(cached);
+        }
+        try {
+            Claims claims = jwtParser.parseSignedClaims(token).getPayload();
+            TokenClaims tokenClaims = new TokenClaims(
+                    claims.get("user-id", Long.class),
+                    claims.get("user-email", String.class),
+                    claims.get("user-name", String.class),
+                    claims.get("user-role", String.class),
+                    claims.getExpiration().toInstant()
+            );
+            verifiedTokens.put(cacheKey, tokenClaims);
+            return Optional.of(tokenClaims);
+        } catch (JwtException | IllegalArgumentException e) {
+            return Optional.empty();
+        } finally {
+            parsedVerifyTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
     private String buildToken(
-            
+
             AuthUser userDetails,
             long expiration
     ) {
+        JwtKeyRing.SigningKey signingKey = keyRing.activeKey();
         return Jwts
                 .builder()
+                .header().keyId(signingKey.kid()).and()
                 .claim("user-id", userDetails.id())
                 .claim("user-email", userDetails.email())
                 .claim("user-name", userDetails.name())
                 .claim("user-role", userDetails.role().name())
-                .signWith(getSignInKey())
+                .signWith(signingKey.signingKey())
                 .expiration(new Date(System.currentTimeMillis() + expiration))
                 .compact();
     }
 
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static final class KeyRingLocator extends LocatorAdapter<Key> {
+        private final JwtKeyRing keyRing;
+
+        private KeyRingLocator(JwtKeyRing keyRing) {
+            this.keyRing = keyRing;
+        }
+
+        @Override
+        protected Key locate(JwsHeader header) {
+            String kid = header.getKeyId();
+            if (kid == null) {
+                return keyRing.activeKey().verificationKey();
+            }
+            return keyRing.findKey(kid)
+                    .map(JwtKeyRing.SigningKey::verificationKey)
+                    .orElseThrow(() -> new JwtException("Unknown key id: " + kid));
+        }
+    }
+
+    private static final class UntilTokenExpiry implements Expiry<String, TokenClaims> {
+        @Override
+        public long expireAfterCreate(String key, TokenClaims value, long currentTime) {
+            long remainingMillis = value.expiresAt().toEpochMilli() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
 
-    private SecretKey getSignInKey() {
-        byte[] keyBytes = Decoders.BASE64.decode(secretKey);
-        return Keys.hmacShaKeyFor(keyBytes);
+        @Override
+        public long expireAfterRead(String key, TokenClaims value, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
-}
\ No newline at end of file
+}
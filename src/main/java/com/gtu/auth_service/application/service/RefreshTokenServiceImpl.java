@@ -0,0 +1,108 @@
+package com.gtu.auth_service.application.service;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Locale;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.RefreshToken;
+import com.gtu.auth_service.domain.model.RefreshedSession;
+import com.gtu.auth_service.domain.repository.RefreshTokenRepository;
+import com.gtu.auth_service.domain.service.RefreshTokenService;
+
+@Service
+public class RefreshTokenServiceImpl implements RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    @Value("${jwt.refresh-expiration-ms:1209600000}")
+    private long refreshExpiration = 14L * 24 * 60 * 60000;
+
+    public RefreshTokenServiceImpl(RefreshTokenRepository refreshTokenRepository) {
+        this.refreshTokenRepository = refreshTokenRepository;
+    }
+
+    @Override
+    public String issue(AuthUser user) {
+        return issue(user, UUID.randomUUID().toString());
+    }
+
+    @Override
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public RefreshedSession rotate(String token) {
+        if (token == null || token.isBlank()) {
+            throw new IllegalArgumentException("Invalid refresh token");
+        }
+        RefreshToken refreshToken = refreshTokenRepository.findByTokenHash(hash(token))
+                .orElseThrow(() -> new IllegalArgumentException("Invalid refresh token"));
+
+        if (refreshToken.isUsed() || refreshToken.isRevoked()) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new IllegalArgumentException("Refresh token reuse detected");
+        }
+        if (refreshToken.getExpiryDate().isBefore(LocalDateTime.now())) {
+            throw new IllegalArgumentException("Refresh token has expired");
+        }
+        if (!refreshTokenRepository.markUsed(refreshToken.getId())) {
+            refreshTokenRepository.revokeFamily(refreshToken.getFamilyId());
+            throw new IllegalArgumentException("Refresh token reuse detected");
+        }
+
+        AuthUser user = new AuthUser(
+                refreshToken.getUserId(),
+                refreshToken.getName(),
+                refreshToken.getEmail(),
+                null,
+                refreshToken.getRole()
+        );
+        return new RefreshedSession(user, issue(user, refreshToken.getFamilyId()));
+    }
+
+    @Override
+    public void revokeAll(String email) {
+        refreshTokenRepository.revokeAllByEmail(normalize(email));
+    }
+
+    private String issue(AuthUser user, String familyId) {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        String token = Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash(hash(token));
+        refreshToken.setFamilyId(familyId);
+        refreshToken.setUserId(user.id());
+        refreshToken.setEmail(normalize(user.email()));
+        refreshToken.setName(user.name());
+        refreshToken.setRole(user.role());
+        refreshToken.setExpiryDate(LocalDateTime.now().plus(Duration.ofMillis(refreshExpiration)));
+        refreshTokenRepository.save(refreshToken);
+        return token;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static String hash(String token) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,25 +1,38 @@
 package com.gtu.auth_service.application.service;
 
-import java.time.Instant;
+import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Map;
+import java.util.Locale;
 import java.util.UUID;
 
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionOperations;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.OutboxMessage;
 import com.gtu.auth_service.domain.model.ResetToken;
 import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.domain.repository.OutboxRepository;
 import com.gtu.auth_service.domain.repository.ResetTokenRepository;
+import com.gtu.auth_service.domain.service.RefreshTokenService;
 import com.gtu.auth_service.domain.service.ResetPasswordService;
+import com.gtu.auth_service.infrastructure.client.AccountResolver;
 import com.gtu.auth_service.infrastructure.client.PassengerClient;
 import com.gtu.auth_service.infrastructure.client.UserClient;
+import com.gtu.auth_service.infrastructure.client.ResolvedAccount;
+import com.gtu.auth_service.infrastructure.client.UserLookupCache;
 import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+import com.gtu.auth_service.infrastructure.logs.LogEvent;
 import com.gtu.auth_service.infrastructure.logs.LogPublisher;
+import com.gtu.auth_service.infrastructure.messaging.EventMessageConverter;
 import com.gtu.auth_service.infrastructure.messaging.event.ResetPasswordEvent;
+import com.gtu.auth_service.infrastructure.security.ResetTokenSigner;
+import com.gtu.auth_service.infrastructure.security.VerifiedCredentialCache;
 import com.gtu.auth_service.domain.exception.GeneralException;
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
 
 @Service
 public class ResetPasswordServiceImpl implements ResetPasswordService {
@@ -27,8 +40,9 @@ public class ResetPasswordServiceImpl implements ResetPasswordService {
     private final UserClient userClient;
     private final PassengerClient passengerClient;
     private final ResetTokenRepository resetTokenRepository;
-    private final RabbitTemplate rabbitTemplate;
-    private final ObjectMapper objectMapper;
+    private final OutboxRepository outboxRepository;
+    private final TransactionOperations transactionOperations;
+    private final EventMessageConverter messageConverter;
 
     @Value("${reset.links.base}")
     private String resetLinkBase;
@@ -41,46 +55,75 @@ public class ResetPasswordServiceImpl implements ResetPasswordService {
     private static final String LOG_KEY_ERROR = "error";
 
     private final LogPublisher logPublisher;
+    private final VerifiedCredentialCache credentialCache;
+    private final RefreshTokenService refreshTokenService;
+    private final UserLookupCache userLookupCache;
+    private final AccountResolver accountResolver;
+    private final ResetTokenSigner resetTokenSigner;
+    private final Cache<String, Boolean> recentlyIssued;
 
     public ResetPasswordServiceImpl(UserClient userClient, PassengerClient passengerClient,
-                                   ResetTokenRepository resetTokenRepository, RabbitTemplate rabbitTemplate,
-                                   ObjectMapper objectMapper, LogPublisher logPublisher) {
+                                   ResetTokenRepository resetTokenRepository, OutboxRepository outboxRepository,
+                                   TransactionOperations transactionOperations, EventMessageConverter messageConverter, LogPublisher logPublisher,
+                                   VerifiedCredentialCache credentialCache, RefreshTokenService refreshTokenService,
+                                   UserLookupCache userLookupCache,
+                                   AccountResolver accountResolver, ResetTokenSigner resetTokenSigner,
+                                   @Value("${reset-token.min-interval-ms:60000}") long minIssueIntervalMs) {
         this.userClient = userClient;
         this.passengerClient = passengerClient;
         this.resetTokenRepository = resetTokenRepository;
-        this.rabbitTemplate = rabbitTemplate;
-        this.objectMapper = objectMapper;
+        this.outboxRepository = outboxRepository;
+        this.transactionOperations = transactionOperations;
+        this.messageConverter = messageConverter;
         this.logPublisher = logPublisher;
+        this.credentialCache = credentialCache;
+        this.refreshTokenService = refreshTokenService;
+        this.userLookupCache = userLookupCache;
+        this.accountResolver = accountResolver;
+        this.resetTokenSigner = resetTokenSigner;
+        this.recentlyIssued = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(minIssueIntervalMs))
+                .build();
     }
 
     @Override
     public void requestPasswordReset(String email) {
-        UserServiceResponse target = null;
+        ResolvedAccount target;
 
         try {
-            target = userClient.getUserByEmail(email);
-
-            if (target.getId() == null) {
-                target = passengerClient.getPassengerByEmail(email);
-            }
+            target = accountResolver.resolve(email).orElse(null);
         } catch (Exception e) {
-            logPublisher.sendLog(
-                Instant.now().toString(),
-                SERVICE_NAME,
-                LOG_LEVEL_ERROR,
-                "Error fetching user or passenger from clients",
-                Map.of(LOG_KEY_EMAIL, email, LOG_KEY_ERROR, e.getMessage())
-            );
-            throw new GeneralException(e.getMessage(), 500);
+            logPublisher.publish(LogEvent.of(SERVICE_NAME, LOG_LEVEL_ERROR, "Error fetching user or passenger from clients")
+                .detail(LOG_KEY_EMAIL, email)
+                .detail(LOG_KEY_ERROR, e.getMessage()));
+            if (e instanceof ServiceUnavailableException unavailable) {
+                throw unavailable;
+            }
+            throw new GeneralException(e.getMessage(), e instanceof GeneralException ge ? ge.getStatusCode() : 500);
         }
 
-        if (target.getId() == null) {
+        if (target == null) {
             throw new GeneralException("No user or passenger found with email: " + email, 404);
         }
 
-        resetTokenRepository.findByEmailAndUsedFalse(email).ifPresent(token -> {
+        if (resetTokenSigner.isEnabled()) {
+            String key = email.trim().toLowerCase(Locale.ROOT);
+            if (recentlyIssued.asMap().putIfAbsent(key, Boolean.TRUE) != null) {
+                throw new GeneralException("A reset was requested recently for this email: " + email, 409);
+            }
+            try {
+                String token = resetTokenSigner.issue(target.type(), target.id(), email, target.account().getPassword());
+                sendResetEmailEvent(email, getRole(target), generateResetLink(target.account(), token));
+            } catch (RuntimeException e) {
+                recentlyIssued.invalidate(key);
+                throw e;
+            }
+            return;
+        }
+
+        if (resetTokenRepository.existsPendingByEmail(email)) {
             throw new GeneralException("A reset token is already pending for this email: " + email, 409);
-        });
+        }
 
         String token = UUID.randomUUID().toString();
         LocalDateTime expiryDate = LocalDateTime.now().plusMinutes(15);
@@ -89,10 +132,15 @@ public class ResetPasswordServiceImpl implements ResetPasswordService {
         resetToken.setToken(token);
         resetToken.setEmail(email);
         resetToken.setExpiryDate(expiryDate);
-        resetTokenRepository.save(resetToken);
+        resetToken.setAccountId(target.id());
+        resetToken.setAccountType(target.type());
+        String resetLink = generateResetLink(target.account(), token);
+        Role role = getRole(target);
 
-        String resetLink = generateResetLink(target, token);
-        sendResetEmailEvent(email, getRole(target), resetLink);
+        transactionOperations.executeWithoutResult(status -> {
+            resetTokenRepository.save(resetToken);
+            sendResetEmailEvent(email, role, resetLink);
+        });
     }
 
     @Override
@@ -100,8 +148,8 @@ public class ResetPasswordServiceImpl implements ResetPasswordService {
         return resetLinkBase + "?token=" + token; 
     }
 
-    private Role getRole(UserServiceResponse user) {
-        return user.getRole() != null ? mapToRole(user.getRole()) : Role.PASSENGER;
+    private Role getRole(ResolvedAccount account) {
+        return account.type() == AccountType.PASSENGER ? Role.PASSENGER : mapToRole(account.account().getRole());
     }
 
     private Role mapToRole(String role) {
@@ -118,80 +166,105 @@ public class ResetPasswordServiceImpl implements ResetPasswordService {
     public void sendResetEmailEvent(String to, Role role, String resetLink) {
         ResetPasswordEvent event = new ResetPasswordEvent(to, role, resetLink);
         try {
-            String message = objectMapper.writeValueAsString(event);
-            rabbitTemplate.convertAndSend(RESET_EXCHANGE, RESET_ROUTING_KEY, message);
-
-            logPublisher.sendLog(
-            Instant.now().toString(),
-            SERVICE_NAME,
-            "INFO",
-            "Reset email event sent successfully",
-            Map.of(LOG_KEY_EMAIL, to, "role", role.name(), "resetLink", resetLink)
-        );
+            byte[] payload = messageConverter.serialize(event);
+            outboxRepository.save(new OutboxMessage(RESET_EXCHANGE, RESET_ROUTING_KEY, payload, messageConverter.contentType()));
+
+            logPublisher.publish(LogEvent.of(SERVICE_NAME, "INFO", "Reset email event queued")
+                .detail(LOG_KEY_EMAIL, to)
+                .detail("role", role.name())
+                .detail("resetLink", resetLink));
         } catch (Exception e) {
-            logPublisher.sendLog(
-            Instant.now().toString(),
-            SERVICE_NAME,
-            LOG_LEVEL_ERROR,
-            "Failed to send reset email event",
-            Map.of(LOG_KEY_EMAIL, to, "role", role.name(), "resetLink", resetLink, LOG_KEY_ERROR, e.getMessage())
-            );
-            throw new RuntimeException("Failed to send reset email event: " + e.getMessage());
+            logPublisher.publish(LogEvent.of(SERVICE_NAME, LOG_LEVEL_ERROR, "Failed to queue reset email event")
+                .detail(LOG_KEY_EMAIL, to)
+                .detail("role", role.name())
+                .detail("resetLink", resetLink)
+                .detail(LOG_KEY_ERROR, e.getMessage()));
+            throw new RuntimeException("Failed to queue reset email event: " + e.getMessage());
         }
     }
 
     @Override
     public void resetPassword(String token, String newPassword) {
         try{
-            ResetToken resetToken = resetTokenRepository.findByToken(token)
-                    .orElseThrow(() -> new IllegalArgumentException("Invalid or expired token"));
-
-            if (resetToken.getExpiryDate().isBefore(LocalDateTime.now()) || resetToken.isUsed()) {
-                throw new IllegalArgumentException("Token has expired or already used");
+            if (resetTokenSigner.isSigned(token)) {
+                resetWithSignedToken(token, newPassword);
+                return;
             }
 
-            Long userId = getUserIdByEmail(resetToken.getEmail());
-            if (userId != null) {
-                userClient.resetPassword(userId, newPassword);
-            } else {
-                Long passengerId = getPassengerIdByEmail(resetToken.getEmail());
-                if (passengerId != null) {
-                    passengerClient.resetPassword(passengerId, newPassword);
+            ResetToken resetToken = resetTokenRepository.claim(token, LocalDateTime.now())
+                    .orElseThrow(() -> resetTokenRepository.findByToken(token).isPresent()
+                            ? new IllegalArgumentException("Token has expired or already used")
+                            : new IllegalArgumentException("Invalid or expired token"));
+
+            try {
+                if (resetToken.getAccountId() != null && resetToken.getAccountType() != null) {
+                    resetAccountPassword(resetToken.getAccountType(), resetToken.getAccountId(), newPassword);
                 } else {
-                    throw new IllegalArgumentException("No user or passenger found with email: " + resetToken.getEmail());
+                    resetLegacyTokenPassword(resetToken.getEmail(), newPassword);
                 }
+            } catch (RuntimeException e) {
+                resetTokenRepository.release(token);
+                throw e;
             }
 
-            resetToken.setUsed(true);
-            resetTokenRepository.save(resetToken);
+            endSessions(resetToken.getEmail());
 
         } catch (Exception e) {
-            logPublisher.sendLog(
-                Instant.now().toString(),
-                SERVICE_NAME,
-                LOG_LEVEL_ERROR,
-                "Failed to reset password",
-                Map.of("token", token, LOG_KEY_ERROR, e.getMessage())
-            );
+            logPublisher.publish(LogEvent.of(SERVICE_NAME, LOG_LEVEL_ERROR, "Failed to reset password")
+                .detail("token", token)
+                .detail(LOG_KEY_ERROR, e.getMessage()));
             throw e;
         }
     }
 
-    public Long getUserIdByEmail(String email) {
+    private void resetWithSignedToken(String token, String newPassword) {
+        ResetTokenSigner.Claims claims = resetTokenSigner.verify(token)
+                .orElseThrow(() -> new IllegalArgumentException("Invalid or expired token"));
+        if (!resetTokenSigner.claim(token)) {
+            throw new IllegalArgumentException("Token has expired or already used");
+        }
+
         try {
-            UserServiceResponse user = userClient.getUserByEmail(email);
-            return user != null ? user.getId() : null;
-        } catch (Exception e) {
-            return null;
+            userLookupCache.evict(claims.email());
+            ResolvedAccount account = (claims.accountType() == AccountType.USER
+                    ? accountResolver.resolveUser(claims.email())
+                    : accountResolver.resolvePassenger(claims.email()))
+                    .filter(resolved -> claims.accountId().equals(resolved.id()))
+                    .orElseThrow(() -> new IllegalArgumentException("Invalid or expired token"));
+            if (!resetTokenSigner.matchesPassword(claims, account.account().getPassword())) {
+                throw new IllegalArgumentException("Token has expired or already used");
+            }
+            resetAccountPassword(claims.accountType(), claims.accountId(), newPassword);
+        } catch (RuntimeException e) {
+            resetTokenSigner.release(token);
+            throw e;
         }
+
+        endSessions(claims.email());
     }
 
-    public Long getPassengerIdByEmail(String email) {
+    private void endSessions(String email) {
+        credentialCache.invalidate(email);
+        userLookupCache.evict(email);
         try {
-            UserServiceResponse passenger = passengerClient.getPassengerByEmail(email);
-            return passenger != null ? passenger.getId() : null;
-        } catch (Exception e) {
-            return null;
+            refreshTokenService.revokeAll(email);
+        } catch (RuntimeException e) {
+            logPublisher.publish(LogEvent.of(SERVICE_NAME, LOG_LEVEL_ERROR, "Failed to revoke refresh tokens after password reset")
+                .detail(LOG_KEY_EMAIL, email)
+                .detail(LOG_KEY_ERROR, e.getMessage()));
         }
     }
+
+    private void resetAccountPassword(AccountType accountType, Long accountId, String newPassword) {
+        switch (accountType) {
+            case USER -> userClient.resetPassword(accountId, newPassword);
+            case PASSENGER -> passengerClient.resetPassword(accountId, newPassword);
+        }
+    }
+
+    private void resetLegacyTokenPassword(String email, String newPassword) {
+        ResolvedAccount account = accountResolver.resolve(email)
+                .orElseThrow(() -> new IllegalArgumentException("No user or passenger found with email: " + email));
+        resetAccountPassword(account.type(), account.id(), newPassword);
+    }
 }
\ No newline at end of file
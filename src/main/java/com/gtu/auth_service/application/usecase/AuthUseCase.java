@@ -2,13 +2,18 @@ package com.gtu.auth_service.application.usecase;
 
 import org.springframework.stereotype.Service;
 
+import com.gtu.auth_service.application.dto.IntrospectionResponseDTO;
+import com.gtu.auth_service.application.dto.JwkSetDTO;
 import com.gtu.auth_service.application.dto.LoginRequestDTO;
 import com.gtu.auth_service.application.dto.LoginResponseDTO;
 import com.gtu.auth_service.application.dto.RegisterRequestDTO;
 import com.gtu.auth_service.infrastructure.security.PasswordValidator;
+import com.gtu.auth_service.infrastructure.security.VerifiedCredentialCache;
 import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.RefreshedSession;
 import com.gtu.auth_service.domain.service.AuthService;
 import com.gtu.auth_service.domain.service.JwtService;
+import com.gtu.auth_service.domain.service.RefreshTokenService;
 import com.gtu.auth_service.domain.service.ResetPasswordService;
 
 @Service
@@ -17,12 +22,18 @@ public class AuthUseCase {
     private final JwtService jwtService;
     private final ResetPasswordService resetPasswordService;
     private final PasswordValidator passwordValidator;
+    private final RefreshTokenService refreshTokenService;
+    private final VerifiedCredentialCache credentialCache;
 
-    public AuthUseCase(AuthService authService, JwtService jwtService, ResetPasswordService resetPasswordService, PasswordValidator passwordValidator) {
+    public AuthUseCase(AuthService authService, JwtService jwtService, ResetPasswordService resetPasswordService,
+                       PasswordValidator passwordValidator, RefreshTokenService refreshTokenService,
+                       VerifiedCredentialCache credentialCache) {
         this.authService = authService;
         this.jwtService = jwtService;
         this.resetPasswordService = resetPasswordService;
         this.passwordValidator = passwordValidator;
+        this.refreshTokenService = refreshTokenService;
+        this.credentialCache = credentialCache;
     }
 
     public LoginResponseDTO login(LoginRequestDTO request) {
@@ -30,7 +41,7 @@ public class AuthUseCase {
         if (user == null) {
             throw new IllegalArgumentException("User not found");
         }
-        if (!passwordValidator.validate(request.password(), user.password())) {
+        if (!checkPassword(user, request.password())) {
             throw new IllegalArgumentException("Invalid password");
         }
         String token = jwtService.generateToken(user);
@@ -39,7 +50,8 @@ public class AuthUseCase {
                 user.id(),
                 user.name(),
                 user.email(),
-                user.role().name()
+                user.role().name(),
+                refreshTokenService.issue(user)
         );
     }
 
@@ -48,7 +60,7 @@ public class AuthUseCase {
         if (passenger == null) {
             throw new IllegalArgumentException("Passenger not found");
         }
-        if (!passwordValidator.validate(request.password(), passenger.password())) {
+        if (!checkPassword(passenger, request.password())) {
             throw new IllegalArgumentException("Invalid password");
         }
         String token = jwtService.generateToken(passenger);
@@ -57,10 +69,22 @@ public class AuthUseCase {
                 passenger.id(),
                 passenger.name(),
                 passenger.email(),
-                passenger.role().name()
+                passenger.role().name(),
+                refreshTokenService.issue(passenger)
         );
     }
 
+    private boolean checkPassword(AuthUser user, String rawPassword) {
+        if (credentialCache.isVerified(user.email(), rawPassword, user.password())) {
+            return true;
+        }
+        if (!passwordValidator.validate(rawPassword, user.password())) {
+            return false;
+        }
+        credentialCache.markVerified(user.email(), rawPassword, user.password());
+        return true;
+    }
+
     public void resetPasswordRequest(String email){
         resetPasswordService.requestPasswordReset(email);
     }
@@ -69,6 +93,36 @@ public class AuthUseCase {
         resetPasswordService.resetPassword(token, newPassword);
     }
 
+    public LoginResponseDTO refresh(String refreshToken) {
+        RefreshedSession session = refreshTokenService.rotate(refreshToken);
+        AuthUser user = session.user();
+        return new LoginResponseDTO(
+                jwtService.generateToken(user),
+                user.id(),
+                user.name(),
+                user.email(),
+                user.role().name(),
+                session.refreshToken()
+        );
+    }
+
+    public JwkSetDTO getJwkSet() {
+        return jwtService.getJwkSet();
+    }
+
+    public IntrospectionResponseDTO introspect(String token) {
+        return jwtService.verifyToken(token)
+                .map(claims -> new IntrospectionResponseDTO(
+                        true,
+                        claims.userId(),
+                        claims.email(),
+                        claims.name(),
+                        claims.role(),
+                        claims.expiresAt().getEpochSecond()
+                ))
+                .orElseGet(IntrospectionResponseDTO::inactive);
+    }
+
 
     public LoginResponseDTO registerPassenger(RegisterRequestDTO request) {
         AuthUser user = authService.registerPassenger(request.getName(), request.getEmail(), request.getPassword());
@@ -82,7 +136,8 @@ public class AuthUseCase {
                 user.id(),
                 user.name(),
                 user.email(),
-                user.role().name()
+                user.role().name(),
+                refreshTokenService.issue(user)
         );
     }
 }
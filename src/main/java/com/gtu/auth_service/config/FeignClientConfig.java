@@ -0,0 +1,38 @@
+package com.gtu.auth_service.config;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.gtu.auth_service.infrastructure.client.GuardedFeignClient;
+
+import feign.Capability;
+import feign.Client;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+
+@Configuration
+public class FeignClientConfig {
+
+    static final String POOL_METRICS_NAME = "feign";
+
+    @Bean
+    public Capability resilienceCapability(CircuitBreakerRegistry circuitBreakerRegistry,
+                                           BulkheadRegistry bulkheadRegistry) {
+        return new Capability() {
+            @Override
+            public Client enrich(Client client) {
+                return new GuardedFeignClient(client, circuitBreakerRegistry, bulkheadRegistry);
+            }
+        };
+    }
+
+    @Bean
+    public MeterBinder feignConnectionPoolMetrics(ObjectProvider<PoolingHttpClientConnectionManager> connectionManager) {
+        return registry -> connectionManager.ifAvailable(manager ->
+                new PoolingHttpClientConnectionManagerMetricsBinder(manager, POOL_METRICS_NAME).bindTo(registry));
+    }
+}
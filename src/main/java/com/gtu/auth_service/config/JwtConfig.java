@@ -0,0 +1,27 @@
+package com.gtu.auth_service.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.gtu.auth_service.infrastructure.security.AsymmetricKeySource;
+import com.gtu.auth_service.infrastructure.security.HmacKeySource;
+import com.gtu.auth_service.infrastructure.security.JwtKeyRing;
+import com.gtu.auth_service.infrastructure.security.JwtKeySource;
+
+@Configuration
+public class JwtConfig {
+
+    @Bean
+    public JwtKeyRing jwtKeyRing(@Value("${jwt.algorithm:HS256}") String algorithm,
+                                 @Value("${JWT_SECRET:}") String secret,
+                                 @Value("${jwt.secret-file:}") String secretFile,
+                                 @Value("${jwt.private-key-file:}") String privateKeyFile,
+                                 @Value("${jwt.public-key-file:}") String publicKeyFile,
+                                 @Value("${jwt.key-retention-ms:1800000}") long retentionMs) {
+        JwtKeySource source = "HS256".equalsIgnoreCase(algorithm)
+                ? new HmacKeySource(secret, secretFile)
+                : new AsymmetricKeySource(algorithm, privateKeyFile, publicKeyFile);
+        return new JwtKeyRing(source, retentionMs);
+    }
+}
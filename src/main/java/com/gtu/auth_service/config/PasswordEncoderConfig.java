@@ -0,0 +1,30 @@
+package com.gtu.auth_service.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import com.gtu.auth_service.infrastructure.security.MultiFormatPasswordEncoder;
+
+@Configuration
+public class PasswordEncoderConfig {
+
+    private static final Logger log = LoggerFactory.getLogger(PasswordEncoderConfig.class);
+
+    @Bean
+    public PasswordEncoder passwordEncoder(@Value("${password.hashing.algorithm:bcrypt}") String algorithm,
+                                           @Value("${password.hashing.bcrypt-cost:0}") int bcryptCost,
+                                           @Value("${password.hashing.target-verify-ms:50}") long targetVerifyMs,
+                                           @Value("${password.hashing.min-bcrypt-cost:10}") int minCost,
+                                           @Value("${password.hashing.max-bcrypt-cost:14}") int maxCost) {
+        int cost = bcryptCost;
+        if (cost <= 0) {
+            cost = MultiFormatPasswordEncoder.calibrateBCryptCost(targetVerifyMs, minCost, maxCost);
+            log.info("Calibrated BCrypt cost {} for a {} ms verify target", cost, targetVerifyMs);
+        }
+        return new MultiFormatPasswordEncoder(algorithm, cost);
+    }
+}
@@ -0,0 +1,14 @@
+package com.gtu.auth_service.domain.exception;
+
+public class ServiceUnavailableException extends GeneralException {
+    private final long retryAfterSeconds;
+
+    public ServiceUnavailableException(String message, long retryAfterSeconds) {
+        super(message, 503);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+
+    public long getRetryAfterSeconds() {
+        return retryAfterSeconds;
+    }
+}
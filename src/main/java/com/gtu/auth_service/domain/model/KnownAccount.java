@@ -0,0 +1,28 @@
+package com.gtu.auth_service.domain.model;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KnownAccount {
+    private String email;
+
+    private AccountType accountType;
+
+    private Long accountId;
+
+    private String name;
+
+    private String role;
+
+    private String passwordHash;
+
+    private LocalDateTime capturedAt;
+}
@@ -0,0 +1,44 @@
+package com.gtu.auth_service.domain.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessage {
+    private Long id;
+
+    private String exchange;
+
+    private String routingKey;
+
+    private byte[] payload;
+
+    private String contentType;
+
+    private OutboxStatus status = OutboxStatus.PENDING;
+
+    private int attempts;
+
+    private LocalDateTime nextAttemptAt;
+
+    private LocalDateTime createdAt;
+
+    private String lastError;
+
+    public OutboxMessage(String exchange, String routingKey, byte[] payload, String contentType) {
+        this.exchange = exchange;
+        this.routingKey = routingKey;
+        this.payload = payload;
+        this.contentType = contentType;
+        this.createdAt = LocalDateTime.now();
+        this.nextAttemptAt = this.createdAt;
+    }
+}
@@ -0,0 +1,35 @@
+package com.gtu.auth_service.domain.model;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+    private Long id;
+
+    private String tokenHash;
+
+    private String familyId;
+
+    private Long userId;
+
+    private String email;
+
+    private String name;
+
+    private Role role;
+
+    private LocalDateTime expiryDate;
+
+    private boolean used;
+
+    private boolean revoked;
+}
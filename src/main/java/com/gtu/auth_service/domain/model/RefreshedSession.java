@@ -0,0 +1,6 @@
+package com.gtu.auth_service.domain.model;
+
+public record RefreshedSession(
+    AuthUser user,
+    String refreshToken
+) {}
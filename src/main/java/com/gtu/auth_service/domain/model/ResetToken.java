@@ -22,4 +22,12 @@ public class ResetToken {
     private LocalDateTime expiryDate;
 
     private boolean used;
+
+    private Long accountId;
+
+    private AccountType accountType;
+
+    public ResetToken(Long id, String token, String email, LocalDateTime expiryDate, boolean used) {
+        this(id, token, email, expiryDate, used, null, null);
+    }
 }
@@ -0,0 +1,11 @@
+package com.gtu.auth_service.domain.model;
+
+import java.time.Instant;
+
+public record TokenClaims(
+    Long userId,
+    String email,
+    String name,
+    String role,
+    Instant expiresAt
+) {}
@@ -0,0 +1,14 @@
+package com.gtu.auth_service.domain.repository;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.KnownAccount;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface KnownAccountRepository {
+    void save(KnownAccount account);
+    Optional<KnownAccount> find(String email, AccountType accountType);
+    void delete(String email, AccountType accountType);
+    int deleteCapturedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,14 @@
+package com.gtu.auth_service.domain.repository;
+
+import com.gtu.auth_service.domain.model.OutboxMessage;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface OutboxRepository {
+    void save(OutboxMessage message);
+    List<OutboxMessage> findDue(LocalDateTime now, int limit);
+    void deleteAll(List<Long> ids);
+    void scheduleRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String lastError);
+    void markFailed(Long id, int attempts, String lastError);
+}
@@ -0,0 +1,15 @@
+package com.gtu.auth_service.domain.repository;
+
+import com.gtu.auth_service.domain.model.RefreshToken;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface RefreshTokenRepository {
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+    void save(RefreshToken refreshToken);
+    boolean markUsed(Long id);
+    void revokeFamily(String familyId);
+    int revokeAllByEmail(String email);
+    int deleteExpiredOrRevoked(LocalDateTime expiredBefore, int limit);
+}
@@ -2,6 +2,7 @@ package com.gtu.auth_service.domain.repository;
 
 import com.gtu.auth_service.domain.model.ResetToken;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 public interface ResetTokenRepository {
@@ -9,4 +10,8 @@ public interface ResetTokenRepository {
     Optional<ResetToken> findByEmailAndUsedFalse(String email);
     void save(ResetToken resetToken);
     boolean existsByEmail(String email);
+    boolean existsPendingByEmail(String email);
+    Optional<ResetToken> claim(String token, LocalDateTime now);
+    void release(String token);
+    int deleteExpired(LocalDateTime expiredBefore, int limit);
 }
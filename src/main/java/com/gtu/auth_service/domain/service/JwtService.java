@@ -1,8 +1,14 @@
 package com.gtu.auth_service.domain.service;
 
+import java.util.Optional;
+
+import com.gtu.auth_service.application.dto.JwkSetDTO;
 import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.TokenClaims;
 
 public interface JwtService {
     String generateToken(AuthUser user);
     long getExpirationTime();
+    JwkSetDTO getJwkSet();
+    Optional<TokenClaims> verifyToken(String token);
 }
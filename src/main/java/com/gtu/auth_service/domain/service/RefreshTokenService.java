@@ -0,0 +1,10 @@
+package com.gtu.auth_service.domain.service;
+
+import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.RefreshedSession;
+
+public interface RefreshTokenService {
+    String issue(AuthUser user);
+    RefreshedSession rotate(String refreshToken);
+    void revokeAll(String email);
+}
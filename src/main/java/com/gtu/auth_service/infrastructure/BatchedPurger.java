@@ -0,0 +1,89 @@
+package com.gtu.auth_service.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.env.Environment;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+public class BatchedPurger {
+
+    private static final Logger log = LoggerFactory.getLogger(BatchedPurger.class);
+
+    @FunctionalInterface
+    public interface BatchDelete {
+        int delete(LocalDateTime expiredBefore, int limit);
+    }
+
+    private final String metricName;
+    private final BatchDelete delete;
+    private final long retentionMs;
+    private final int batchSize;
+    private final int maxBatches;
+    private final long pauseMs;
+
+    private final Counter purgedCounter;
+    private final Timer purgeTimer;
+
+    BatchedPurger(String metricName, BatchDelete delete, MeterRegistry meterRegistry,
+                  long retentionMs, int batchSize, int maxBatches, long pauseMs) {
+        this.metricName = metricName;
+        this.delete = delete;
+        this.retentionMs = retentionMs;
+        this.batchSize = batchSize;
+        this.maxBatches = maxBatches;
+        this.pauseMs = pauseMs;
+        this.purgedCounter = Counter.builder(metricName + ".purged").register(meterRegistry);
+        this.purgeTimer = Timer.builder(metricName + ".purge.duration").register(meterRegistry);
+    }
+
+    public static BatchedPurger configure(Environment environment, String propertyPrefix, String metricName,
+                                          BatchDelete delete, MeterRegistry meterRegistry) {
+        return new BatchedPurger(metricName, delete, meterRegistry,
+                environment.getProperty(propertyPrefix + ".retention-ms", Long.class, 3600000L),
+                environment.getProperty(propertyPrefix + ".batch-size", Integer.class, 500),
+                environment.getProperty(propertyPrefix + ".max-batches", Integer.class, 100),
+                environment.getProperty(propertyPrefix + ".pause-ms", Long.class, 50L));
+    }
+
+    public void purge() {
+        long start = System.nanoTime();
+        LocalDateTime expiredBefore = LocalDateTime.now().minusNanos(TimeUnit.MILLISECONDS.toNanos(retentionMs));
+        int total = 0;
+        try {
+            for (int batch = 0; batch < maxBatches; batch++) {
+                int deleted = delete.delete(expiredBefore, batchSize);
+                total += deleted;
+                purgedCounter.increment(deleted);
+                if (deleted < batchSize || !pause()) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            log.warn("Purge of {} stopped after {} rows: {}", metricName, total, e.getMessage());
+        } finally {
+            purgeTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+        if (total > 0) {
+            log.info("Purged {} rows for {}", total, metricName);
+        }
+    }
+
+    private boolean pause() {
+        if (pauseMs <= 0) {
+            return true;
+        }
+        try {
+            Thread.sleep(pauseMs);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+}
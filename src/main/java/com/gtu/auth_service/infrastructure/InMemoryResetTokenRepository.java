@@ -0,0 +1,163 @@
+package com.gtu.auth_service.infrastructure;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.gtu.auth_service.domain.model.ResetToken;
+import com.gtu.auth_service.domain.repository.ResetTokenRepository;
+import com.gtu.auth_service.infrastructure.mappers.ResetTokenMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+
+@Repository
+@ConditionalOnProperty(name = "reset-token.store", havingValue = "memory")
+public class InMemoryResetTokenRepository implements ResetTokenRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(InMemoryResetTokenRepository.class);
+
+    private final JpaResetTokenRepository jpaResetTokenRepository;
+    private final Map<String, ResetToken> pendingByToken = new ConcurrentHashMap<>();
+    private final Map<String, String> pendingTokenByEmail = new ConcurrentHashMap<>();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+
+    public InMemoryResetTokenRepository(JpaResetTokenRepository jpaResetTokenRepository, MeterRegistry meterRegistry) {
+        this.jpaResetTokenRepository = jpaResetTokenRepository;
+        this.hitCounter = Counter.builder("auth.reset-tokens.index").tag("result", "hit").register(meterRegistry);
+        this.missCounter = Counter.builder("auth.reset-tokens.index").tag("result", "miss").register(meterRegistry);
+        Gauge.builder("auth.reset-tokens.indexed", pendingByToken, Map::size).register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void rebuild() {
+        pendingByToken.clear();
+        pendingTokenByEmail.clear();
+        jpaResetTokenRepository.findAllByUsedFalse().forEach(entity -> index(ResetTokenMapper.toDomain(entity)));
+        log.info("Reset token index rebuilt with {} pending tokens", pendingByToken.size());
+    }
+
+    @Override
+    public Optional<ResetToken> findByToken(String token) {
+        ResetToken pending = pendingByToken.get(token);
+        if (pending != null) {
+            hitCounter.increment();
+            return Optional.of(copy(pending));
+        }
+        missCounter.increment();
+        return jpaResetTokenRepository.findByToken(token)
+                .map(ResetTokenMapper::toDomain);
+    }
+
+    @Override
+    public Optional<ResetToken> findByEmailAndUsedFalse(String email) {
+        String token = pendingTokenByEmail.get(email);
+        if (token == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(pendingByToken.get(token)).map(InMemoryResetTokenRepository::copy);
+    }
+
+    @Override
+    public void save(ResetToken resetToken) {
+        ResetToken saved = ResetTokenMapper.toDomain(jpaResetTokenRepository.save(ResetTokenMapper.toEntity(resetToken)));
+        resetToken.setId(saved.getId());
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    index(saved);
+                }
+            });
+        } else {
+            index(saved);
+        }
+    }
+
+    @Override
+    public boolean existsByEmail(String email) {
+        return pendingTokenByEmail.containsKey(email) || jpaResetTokenRepository.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsPendingByEmail(String email) {
+        return pendingTokenByEmail.containsKey(email);
+    }
+
+    @Override
+    public Optional<ResetToken> claim(String token, LocalDateTime now) {
+        if (jpaResetTokenRepository.consume(token, now) != 1) {
+            return Optional.empty();
+        }
+        Optional<ResetToken> claimed = jpaResetTokenRepository.findByToken(token)
+                .map(ResetTokenMapper::toDomain);
+        if (claimed.isPresent()) {
+            ResetToken pending = pendingByToken.remove(token);
+            if (pending != null) {
+                pendingTokenByEmail.remove(pending.getEmail(), token);
+            }
+        }
+        return claimed;
+    }
+
+    @Override
+    public void release(String token) {
+        if (jpaResetTokenRepository.release(token) > 0) {
+            jpaResetTokenRepository.findByToken(token)
+                    .map(ResetTokenMapper::toDomain)
+                    .ifPresent(this::index);
+        }
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime expiredBefore, int limit) {
+        List<Long> ids = jpaResetTokenRepository.findPurgeableIds(expiredBefore, PageRequest.of(0, limit));
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = jpaResetTokenRepository.deleteByIds(ids);
+        pendingByToken.values().removeIf(token -> {
+            if (token.getExpiryDate().isBefore(expiredBefore)) {
+                pendingTokenByEmail.remove(token.getEmail(), token.getToken());
+                return true;
+            }
+            return false;
+        });
+        return deleted;
+    }
+
+    private void index(ResetToken resetToken) {
+        if (resetToken.isUsed()) {
+            pendingByToken.remove(resetToken.getToken());
+            pendingTokenByEmail.remove(resetToken.getEmail(), resetToken.getToken());
+        } else {
+            pendingByToken.put(resetToken.getToken(), resetToken);
+            pendingTokenByEmail.put(resetToken.getEmail(), resetToken.getToken());
+        }
+    }
+
+    private static ResetToken copy(ResetToken resetToken) {
+        return new ResetToken(
+            resetToken.getId(),
+            resetToken.getToken(),
+            resetToken.getEmail(),
+            resetToken.getExpiryDate(),
+            resetToken.isUsed(),
+            resetToken.getAccountId(),
+            resetToken.getAccountType()
+        );
+    }
+}
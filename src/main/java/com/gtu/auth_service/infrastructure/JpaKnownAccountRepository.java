@@ -0,0 +1,35 @@
+package com.gtu.auth_service.infrastructure;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.infrastructure.entities.KnownAccountEntity;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+@Repository
+public interface JpaKnownAccountRepository extends JpaRepository<KnownAccountEntity, Long> {
+    Optional<KnownAccountEntity> findByEmailAndAccountType(String email, AccountType accountType);
+
+    @Transactional
+    @Modifying
+    @Query(value = "MERGE INTO known_accounts (email, account_type, account_id, name, role, password_hash, captured_at) "
+            + "KEY (email, account_type) VALUES (?1, ?2, ?3, ?4, ?5, ?6, ?7)", nativeQuery = true)
+    int upsert(String email, String accountType, Long accountId, String name, String role, String passwordHash,
+               LocalDateTime capturedAt);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM KnownAccountEntity a WHERE a.email = ?1 AND a.accountType = ?2")
+    int deleteByEmailAndAccountType(String email, AccountType accountType);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM KnownAccountEntity a WHERE a.capturedAt < ?1")
+    int deleteCapturedBefore(LocalDateTime cutoff);
+}
@@ -0,0 +1,30 @@
+package com.gtu.auth_service.infrastructure;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gtu.auth_service.domain.model.OutboxStatus;
+import com.gtu.auth_service.infrastructure.entities.OutboxMessageEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+@Repository
+public interface JpaOutboxRepository extends JpaRepository<OutboxMessageEntity, Long> {
+    @Query("SELECT m FROM OutboxMessageEntity m WHERE m.status = ?1 AND m.nextAttemptAt <= ?2 ORDER BY m.id")
+    List<OutboxMessageEntity> findDue(OutboxStatus status, LocalDateTime now, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM OutboxMessageEntity m WHERE m.id IN ?1")
+    int deleteByIds(List<Long> ids);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxMessageEntity m SET m.status = ?2, m.attempts = ?3, m.nextAttemptAt = ?4, m.lastError = ?5 WHERE m.id = ?1")
+    int updateAttempt(Long id, OutboxStatus status, int attempts, LocalDateTime nextAttemptAt, String lastError);
+}
@@ -0,0 +1,41 @@
+package com.gtu.auth_service.infrastructure;
+
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.gtu.auth_service.infrastructure.entities.RefreshTokenEntity;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+@Repository
+public interface JpaRefreshTokenRepository extends JpaRepository<RefreshTokenEntity, Long> {
+    @Query("SELECT rt FROM RefreshTokenEntity rt WHERE rt.tokenHash = ?1")
+    Optional<RefreshTokenEntity> findByTokenHash(String tokenHash);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.used = true WHERE rt.id = ?1 AND rt.used = false AND rt.revoked = false")
+    int markUsed(Long id);
+
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.revoked = true WHERE rt.familyId = ?1")
+    int revokeFamily(String familyId);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE RefreshTokenEntity rt SET rt.revoked = true WHERE rt.email = ?1 AND rt.revoked = false")
+    int revokeAllByEmail(String email);
+
+    @Query("SELECT rt.id FROM RefreshTokenEntity rt WHERE rt.expiryDate < ?1 OR rt.revoked = true ORDER BY rt.id")
+    List<Long> findPurgeableIds(LocalDateTime expiredBefore, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM RefreshTokenEntity rt WHERE rt.id IN ?1")
+    int deleteByIds(List<Long> ids);
+}
@@ -1,21 +1,49 @@
 package com.gtu.auth_service.infrastructure;
 
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.gtu.auth_service.infrastructure.entities.ResetTokenEntity;
 
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 @Repository
 public interface JpaResetTokenRepository extends JpaRepository<ResetTokenEntity, Long> {
     @Query("SELECT rt FROM ResetTokenEntity rt WHERE rt.token = ?1")
     Optional<ResetTokenEntity> findByToken(String token);
 
-    @Query("SELECT rt FROM ResetTokenEntity rt WHERE rt.email = ?1 AND rt.used = false")
-    Optional<ResetTokenEntity> findByEmailAndUsedFalse(String email);
+    Optional<ResetTokenEntity> findFirstByEmailAndUsedFalseOrderByIdDesc(String email);
 
-    @Query("SELECT rt FROM ResetTokenEntity rt WHERE rt.email = ?1")
-    Optional<ResetTokenEntity> findByEmail(String email);
+    @Query("SELECT COUNT(rt) > 0 FROM ResetTokenEntity rt WHERE rt.email = ?1")
+    boolean existsByEmail(String email);
+
+    @Query("SELECT COUNT(rt) > 0 FROM ResetTokenEntity rt WHERE rt.email = ?1 AND rt.used = false")
+    boolean existsPendingByEmail(String email);
+
+    @Query("SELECT rt FROM ResetTokenEntity rt WHERE rt.used = false")
+    List<ResetTokenEntity> findAllByUsedFalse();
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ResetTokenEntity rt SET rt.used = true WHERE rt.token = ?1 AND rt.used = false AND rt.expiryDate > ?2")
+    int consume(String token, LocalDateTime now);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE ResetTokenEntity rt SET rt.used = false WHERE rt.token = ?1 AND rt.used = true")
+    int release(String token);
+
+    @Query("SELECT rt.id FROM ResetTokenEntity rt WHERE rt.expiryDate < ?1 ORDER BY rt.id")
+    List<Long> findPurgeableIds(LocalDateTime expiredBefore, Pageable pageable);
+
+    @Transactional
+    @Modifying
+    @Query("DELETE FROM ResetTokenEntity rt WHERE rt.id IN ?1")
+    int deleteByIds(List<Long> ids);
 }
@@ -0,0 +1,42 @@
+package com.gtu.auth_service.infrastructure;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import org.springframework.stereotype.Repository;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.KnownAccount;
+import com.gtu.auth_service.domain.repository.KnownAccountRepository;
+import com.gtu.auth_service.infrastructure.mappers.KnownAccountMapper;
+
+@Repository
+public class KnownAccountRepositoryImpl implements KnownAccountRepository {
+
+    private final JpaKnownAccountRepository jpaKnownAccountRepository;
+
+    public KnownAccountRepositoryImpl(JpaKnownAccountRepository jpaKnownAccountRepository) {
+        this.jpaKnownAccountRepository = jpaKnownAccountRepository;
+    }
+
+    @Override
+    public void save(KnownAccount account) {
+        jpaKnownAccountRepository.upsert(account.getEmail(), account.getAccountType().name(), account.getAccountId(),
+                account.getName(), account.getRole(), account.getPasswordHash(), account.getCapturedAt());
+    }
+
+    @Override
+    public Optional<KnownAccount> find(String email, AccountType accountType) {
+        return jpaKnownAccountRepository.findByEmailAndAccountType(email, accountType).map(KnownAccountMapper::toDomain);
+    }
+
+    @Override
+    public void delete(String email, AccountType accountType) {
+        jpaKnownAccountRepository.deleteByEmailAndAccountType(email, accountType);
+    }
+
+    @Override
+    public int deleteCapturedBefore(LocalDateTime cutoff) {
+        return jpaKnownAccountRepository.deleteCapturedBefore(cutoff);
+    }
+}
@@ -0,0 +1,59 @@
+package com.gtu.auth_service.infrastructure;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import com.gtu.auth_service.domain.model.OutboxMessage;
+import com.gtu.auth_service.domain.model.OutboxStatus;
+import com.gtu.auth_service.domain.repository.OutboxRepository;
+import com.gtu.auth_service.infrastructure.mappers.OutboxMessageMapper;
+
+@Repository
+public class OutboxRepositoryImpl implements OutboxRepository {
+
+    private static final int MAX_ERROR_LENGTH = 512;
+
+    private final JpaOutboxRepository jpaOutboxRepository;
+
+    public OutboxRepositoryImpl(JpaOutboxRepository jpaOutboxRepository) {
+        this.jpaOutboxRepository = jpaOutboxRepository;
+    }
+
+    @Override
+    public void save(OutboxMessage message) {
+        jpaOutboxRepository.save(OutboxMessageMapper.toEntity(message));
+    }
+
+    @Override
+    public List<OutboxMessage> findDue(LocalDateTime now, int limit) {
+        return jpaOutboxRepository.findDue(OutboxStatus.PENDING, now, PageRequest.of(0, limit)).stream()
+                .map(OutboxMessageMapper::toDomain)
+                .toList();
+    }
+
+    @Override
+    public void deleteAll(List<Long> ids) {
+        if (!ids.isEmpty()) {
+            jpaOutboxRepository.deleteByIds(ids);
+        }
+    }
+
+    @Override
+    public void scheduleRetry(Long id, int attempts, LocalDateTime nextAttemptAt, String lastError) {
+        jpaOutboxRepository.updateAttempt(id, OutboxStatus.PENDING, attempts, nextAttemptAt, truncate(lastError));
+    }
+
+    @Override
+    public void markFailed(Long id, int attempts, String lastError) {
+        jpaOutboxRepository.updateAttempt(id, OutboxStatus.FAILED, attempts, LocalDateTime.now(), truncate(lastError));
+    }
+
+    private static String truncate(String error) {
+        if (error == null || error.length() <= MAX_ERROR_LENGTH) {
+            return error;
+        }
+        return error.substring(0, MAX_ERROR_LENGTH);
+    }
+}
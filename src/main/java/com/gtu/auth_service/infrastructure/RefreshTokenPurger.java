@@ -0,0 +1,27 @@
+package com.gtu.auth_service.infrastructure;
+
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gtu.auth_service.domain.repository.RefreshTokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class RefreshTokenPurger {
+
+    private final BatchedPurger purger;
+
+    public RefreshTokenPurger(RefreshTokenRepository refreshTokenRepository, MeterRegistry meterRegistry,
+                              Environment environment) {
+        this.purger = BatchedPurger.configure(environment, "refresh-token.purge", "auth.refresh-tokens",
+                refreshTokenRepository::deleteExpiredOrRevoked, meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${refresh-token.purge.interval-ms:600000}",
+               initialDelayString = "${refresh-token.purge.initial-delay-ms:60000}")
+    public void purge() {
+        purger.purge();
+    }
+}
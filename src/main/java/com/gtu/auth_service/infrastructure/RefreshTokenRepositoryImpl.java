@@ -0,0 +1,53 @@
+package com.gtu.auth_service.infrastructure;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Repository;
+
+import com.gtu.auth_service.domain.model.RefreshToken;
+import com.gtu.auth_service.domain.repository.RefreshTokenRepository;
+import com.gtu.auth_service.infrastructure.mappers.RefreshTokenMapper;
+
+@Repository
+public class RefreshTokenRepositoryImpl implements RefreshTokenRepository {
+
+    private final JpaRefreshTokenRepository jpaRefreshTokenRepository;
+
+    public RefreshTokenRepositoryImpl(JpaRefreshTokenRepository jpaRefreshTokenRepository) {
+        this.jpaRefreshTokenRepository = jpaRefreshTokenRepository;
+    }
+
+    @Override
+    public Optional<RefreshToken> findByTokenHash(String tokenHash) {
+        return jpaRefreshTokenRepository.findByTokenHash(tokenHash)
+                .map(RefreshTokenMapper::toDomain);
+    }
+
+    @Override
+    public void save(RefreshToken refreshToken) {
+        jpaRefreshTokenRepository.save(RefreshTokenMapper.toEntity(refreshToken));
+    }
+
+    @Override
+    public boolean markUsed(Long id) {
+        return jpaRefreshTokenRepository.markUsed(id) == 1;
+    }
+
+    @Override
+    public void revokeFamily(String familyId) {
+        jpaRefreshTokenRepository.revokeFamily(familyId);
+    }
+
+    @Override
+    public int revokeAllByEmail(String email) {
+        return jpaRefreshTokenRepository.revokeAllByEmail(email);
+    }
+
+    @Override
+    public int deleteExpiredOrRevoked(LocalDateTime expiredBefore, int limit) {
+        List<Long> ids = jpaRefreshTokenRepository.findPurgeableIds(expiredBefore, PageRequest.of(0, limit));
+        return ids.isEmpty() ? 0 : jpaRefreshTokenRepository.deleteByIds(ids);
+    }
+}
@@ -0,0 +1,27 @@
+package com.gtu.auth_service.infrastructure;
+
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gtu.auth_service.domain.repository.ResetTokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class ResetTokenPurger {
+
+    private final BatchedPurger purger;
+
+    public ResetTokenPurger(ResetTokenRepository resetTokenRepository, MeterRegistry meterRegistry,
+                            Environment environment) {
+        this.purger = BatchedPurger.configure(environment, "reset-token.purge", "auth.reset-tokens",
+                resetTokenRepository::deleteExpired, meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${reset-token.purge.interval-ms:600000}",
+               initialDelayString = "${reset-token.purge.initial-delay-ms:60000}")
+    public void purge() {
+        purger.purge();
+    }
+}
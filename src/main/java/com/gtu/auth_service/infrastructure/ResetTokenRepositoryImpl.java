@@ -1,6 +1,10 @@
 package com.gtu.auth_service.infrastructure;
+import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Repository;
 
 import com.gtu.auth_service.domain.model.ResetToken;
@@ -8,6 +12,7 @@ import com.gtu.auth_service.domain.repository.ResetTokenRepository;
 import com.gtu.auth_service.infrastructure.mappers.ResetTokenMapper;
 
 @Repository
+@ConditionalOnProperty(name = "reset-token.store", havingValue = "jpa", matchIfMissing = true)
 public class ResetTokenRepositoryImpl implements ResetTokenRepository {
 
     private final JpaResetTokenRepository jpaResetTokenRepository;
@@ -24,7 +29,7 @@ public class ResetTokenRepositoryImpl implements ResetTokenRepository {
 
     @Override
     public Optional<ResetToken> findByEmailAndUsedFalse(String email) {
-        return jpaResetTokenRepository.findByEmailAndUsedFalse(email)
+        return jpaResetTokenRepository.findFirstByEmailAndUsedFalseOrderByIdDesc(email)
                 .map(ResetTokenMapper::toDomain);
     }
 
@@ -35,6 +40,31 @@ public class ResetTokenRepositoryImpl implements ResetTokenRepository {
 
     @Override
     public boolean existsByEmail(String email) {
-        return jpaResetTokenRepository.findByEmail(email).isPresent();
+        return jpaResetTokenRepository.existsByEmail(email);
+    }
+
+    @Override
+    public boolean existsPendingByEmail(String email) {
+        return jpaResetTokenRepository.existsPendingByEmail(email);
+    }
+
+    @Override
+    public Optional<ResetToken> claim(String token, LocalDateTime now) {
+        if (jpaResetTokenRepository.consume(token, now) != 1) {
+            return Optional.empty();
+        }
+        return jpaResetTokenRepository.findByToken(token)
+                .map(ResetTokenMapper::toDomain);
+    }
+
+    @Override
+    public void release(String token) {
+        jpaResetTokenRepository.release(token);
+    }
+
+    @Override
+    public int deleteExpired(LocalDateTime expiredBefore, int limit) {
+        List<Long> ids = jpaResetTokenRepository.findPurgeableIds(expiredBefore, PageRequest.of(0, limit));
+        return ids.isEmpty() ? 0 : jpaResetTokenRepository.deleteByIds(ids);
     }
 }
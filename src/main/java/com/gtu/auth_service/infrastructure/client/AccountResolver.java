@@ -0,0 +1,108 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.gtu.auth_service.domain.exception.GeneralException;
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+
+import jakarta.annotation.PreDestroy;
+
+@Component
+public class AccountResolver {
+
+    private final UserLookupCache userLookupCache;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+
+    public AccountResolver(UserLookupCache userLookupCache,
+                           @Value("${auth.account-resolver.threads:16}") int threads,
+                           @Value("${auth.account-resolver.timeout-ms:5000}") long timeoutMs) {
+        this.userLookupCache = userLookupCache;
+        this.timeoutMs = timeoutMs;
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "account-resolver-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(threads * 4), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    public Optional<ResolvedAccount> resolveUser(String email) {
+        return toAccount(AccountType.USER, userLookupCache.getUser(email));
+    }
+
+    public Optional<ResolvedAccount> resolvePassenger(String email) {
+        return toAccount(AccountType.PASSENGER, userLookupCache.getPassenger(email));
+    }
+
+    // A user account wins over a passenger account with the same email.
+    public Optional<ResolvedAccount> resolve(String email) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(timeoutMs);
+        List<Future<Optional<ResolvedAccount>>> futures;
+        Future<Optional<ResolvedAccount>> user = null;
+        try {
+            user = executor.submit(() -> resolveUser(email));
+            futures = List.of(user, executor.submit(() -> resolvePassenger(email)));
+        } catch (RejectedExecutionException e) {
+            if (user != null) {
+                user.cancel(true);
+            }
+            throw new ServiceUnavailableException("Account lookups are saturated, please retry later", 1);
+        }
+
+        RuntimeException failure = null;
+        try {
+            for (Future<Optional<ResolvedAccount>> lookup : futures) {
+                try {
+                    Optional<ResolvedAccount> account = lookup.get(deadline - System.nanoTime(), TimeUnit.NANOSECONDS);
+                    if (account.isPresent()) {
+                        return account;
+                    }
+                } catch (ExecutionException e) {
+                    failure = e.getCause() instanceof RuntimeException runtime ? runtime : new IllegalStateException(e.getCause());
+                } catch (TimeoutException e) {
+                    throw new GeneralException("Account lookup timed out for email: " + email, 504);
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new GeneralException("Account lookup interrupted for email: " + email, 500);
+        } finally {
+            futures.forEach(future -> future.cancel(true));
+        }
+
+        if (failure != null) {
+            throw failure;
+        }
+        return Optional.empty();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static Optional<ResolvedAccount> toAccount(AccountType type, UserServiceResponse response) {
+        if (response == null || response.getId() == null) {
+            return Optional.empty();
+        }
+        return Optional.of(new ResolvedAccount(type, response));
+    }
+}
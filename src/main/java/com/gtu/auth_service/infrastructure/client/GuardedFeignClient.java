@@ -0,0 +1,81 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+
+import feign.Client;
+import feign.Request;
+import feign.Response;
+import feign.Target;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+
+public class GuardedFeignClient implements Client {
+
+    private static final String DEFAULT_NAME = "default";
+
+    private final Client delegate;
+    private final CircuitBreakerRegistry circuitBreakerRegistry;
+    private final BulkheadRegistry bulkheadRegistry;
+
+    public GuardedFeignClient(Client delegate, CircuitBreakerRegistry circuitBreakerRegistry,
+                              BulkheadRegistry bulkheadRegistry) {
+        this.delegate = delegate;
+        this.circuitBreakerRegistry = circuitBreakerRegistry;
+        this.bulkheadRegistry = bulkheadRegistry;
+    }
+
+    @Override
+    public Response execute(Request request, Request.Options options) throws IOException {
+        String name = guardName(request);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(name);
+        if (!bulkhead.tryAcquirePermission()) {
+            throw new ServiceUnavailableException("Too many concurrent calls to " + name + ", please retry later", 1);
+        }
+        try {
+            CircuitBreaker circuitBreaker = circuitBreakerRegistry.circuitBreaker(name);
+            if (!circuitBreaker.tryAcquirePermission()) {
+                throw new ServiceUnavailableException(name + " is temporarily unavailable, please retry later",
+                        retryAfterSeconds(circuitBreaker));
+            }
+            long start = circuitBreaker.getCurrentTimestamp();
+            try {
+                Response response = delegate.execute(request, options);
+                long duration = circuitBreaker.getCurrentTimestamp() - start;
+                if (response.status() >= 500) {
+                    circuitBreaker.onError(duration, circuitBreaker.getTimestampUnit(),
+                            new IOException(name + " responded with status " + response.status()));
+                } else {
+                    circuitBreaker.onSuccess(duration, circuitBreaker.getTimestampUnit());
+                }
+                return response;
+            } catch (IOException | RuntimeException e) {
+                circuitBreaker.onError(circuitBreaker.getCurrentTimestamp() - start, circuitBreaker.getTimestampUnit(), e);
+                throw e;
+            }
+        } finally {
+            bulkhead.onComplete();
+        }
+    }
+
+    static String guardName(Request request) {
+        if (request.requestTemplate() == null) {
+            return DEFAULT_NAME;
+        }
+        Target<?> target = request.requestTemplate().feignTarget();
+        if (target == null) {
+            return DEFAULT_NAME;
+        }
+        String simpleName = target.type().getSimpleName();
+        return Character.toLowerCase(simpleName.charAt(0)) + simpleName.substring(1);
+    }
+
+    private static long retryAfterSeconds(CircuitBreaker circuitBreaker) {
+        long waitMs = circuitBreaker.getCircuitBreakerConfig().getWaitIntervalFunctionInOpenState().apply(1);
+        return Math.max(1, TimeUnit.MILLISECONDS.toSeconds(waitMs + 999));
+    }
+}
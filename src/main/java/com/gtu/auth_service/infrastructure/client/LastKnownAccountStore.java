@@ -0,0 +1,182 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.KnownAccount;
+import com.gtu.auth_service.domain.repository.KnownAccountRepository;
+import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class LastKnownAccountStore {
+
+    private static final Logger log = LoggerFactory.getLogger(LastKnownAccountStore.class);
+
+    private final KnownAccountRepository repository;
+    private final boolean enabled;
+    private final boolean persist;
+    private final long maxStalenessMs;
+    private final Clock clock;
+    private final Cache<String, KnownAccount> accounts;
+    private final Counter staleUserCounter;
+    private final Counter stalePassengerCounter;
+
+    @Autowired
+    public LastKnownAccountStore(KnownAccountRepository repository, MeterRegistry meterRegistry,
+                                 @Value("${auth.last-known-good.enabled:true}") boolean enabled,
+                                 @Value("${auth.last-known-good.max-staleness-ms:21600000}") long maxStalenessMs,
+                                 @Value("${auth.last-known-good.max-size:10000}") long maxSize,
+                                 @Value("${auth.last-known-good.persist:false}") boolean persist) {
+        this(repository, meterRegistry, enabled, maxStalenessMs, maxSize, persist, Clock.systemDefaultZone());
+    }
+
+    LastKnownAccountStore(KnownAccountRepository repository, MeterRegistry meterRegistry, boolean enabled,
+                          long maxStalenessMs, long maxSize, boolean persist, Clock clock) {
+        this.repository = repository;
+        this.enabled = enabled;
+        this.persist = enabled && persist;
+        this.maxStalenessMs = maxStalenessMs;
+        this.clock = clock;
+        this.accounts = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(maxStalenessMs))
+                .ticker(() -> TimeUnit.MILLISECONDS.toNanos(clock.millis()))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, accounts, "accounts.last-known-good");
+        this.staleUserCounter = Counter.builder("auth.lookups.stale-served").tag("type", "user").register(meterRegistry);
+        this.stalePassengerCounter = Counter.builder("auth.lookups.stale-served").tag("type", "passenger").register(meterRegistry);
+    }
+
+    public static LastKnownAccountStore inMemory(MeterRegistry meterRegistry, long maxStalenessMs) {
+        return new LastKnownAccountStore(null, meterRegistry, true, maxStalenessMs, 10000, false);
+    }
+
+    // Unchanged, recently confirmed accounts are not rewritten, so they can expire up to a quarter window early.
+    public void remember(AccountType type, String lookupEmail, UserServiceResponse response) {
+        if (!enabled || lookupEmail == null || response == null || response.getId() == null) {
+            return;
+        }
+        String email = normalize(lookupEmail);
+        LocalDateTime now = LocalDateTime.now(clock);
+        KnownAccount account = new KnownAccount(email, type, response.getId(), response.getName(), response.getRole(),
+                response.getPassword(), now);
+        KnownAccount previous = accounts.getIfPresent(key(type, email));
+        if (sameAccount(previous, account)
+                && previous.getCapturedAt().isAfter(now.minusNanos(TimeUnit.MILLISECONDS.toNanos(maxStalenessMs / 4)))) {
+            return;
+        }
+        accounts.put(key(type, email), account);
+        if (persist) {
+            try {
+                repository.save(account);
+            } catch (RuntimeException e) {
+                log.warn("Could not persist last known account for {}: {}", email, e.getMessage());
+            }
+        }
+    }
+
+    public Optional<UserServiceResponse> recall(AccountType type, String email) {
+        if (!enabled || email == null) {
+            return Optional.empty();
+        }
+        String normalized = normalize(email);
+        KnownAccount account = accounts.getIfPresent(key(type, normalized));
+        if (account == null && persist) {
+            account = findPersisted(type, normalized);
+        }
+        if (account == null) {
+            return Optional.empty();
+        }
+        (type == AccountType.USER ? staleUserCounter : stalePassengerCounter).increment();
+        return Optional.of(new UserServiceResponse(account.getAccountId(), account.getName(), account.getEmail(),
+                account.getPasswordHash(), account.getRole()));
+    }
+
+    public void forget(String email) {
+        for (AccountType type : AccountType.values()) {
+            forget(type, email);
+        }
+    }
+
+    public void forget(AccountType type, String email) {
+        if (!enabled || email == null) {
+            return;
+        }
+        String normalized = normalize(email);
+        accounts.invalidate(key(type, normalized));
+        if (persist) {
+            try {
+                repository.delete(normalized, type);
+            } catch (RuntimeException e) {
+                log.warn("Could not delete last known account for {}: {}", normalized, e.getMessage());
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${auth.last-known-good.purge-interval-ms:600000}",
+               initialDelayString = "${auth.last-known-good.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        if (!persist) {
+            return;
+        }
+        try {
+            int purged = repository.deleteCapturedBefore(cutoff());
+            if (purged > 0) {
+                log.debug("Purged {} expired last known accounts", purged);
+            }
+        } catch (RuntimeException e) {
+            log.warn("Last known account purge failed: {}", e.getMessage());
+        }
+    }
+
+    private KnownAccount findPersisted(AccountType type, String email) {
+        try {
+            return repository.find(email, type)
+                    .filter(account -> account.getCapturedAt().isAfter(cutoff()))
+                    .orElse(null);
+        } catch (RuntimeException e) {
+            log.warn("Could not read last known account for {}: {}", email, e.getMessage());
+            return null;
+        }
+    }
+
+    private LocalDateTime cutoff() {
+        return LocalDateTime.now(clock).minusNanos(TimeUnit.MILLISECONDS.toNanos(maxStalenessMs));
+    }
+
+    private static boolean sameAccount(KnownAccount previous, KnownAccount current) {
+        return previous != null
+                && Objects.equals(previous.getAccountId(), current.getAccountId())
+                && Objects.equals(previous.getName(), current.getName())
+                && Objects.equals(previous.getRole(), current.getRole())
+                && Objects.equals(previous.getPasswordHash(), current.getPasswordHash());
+    }
+
+    private static String key(AccountType type, String email) {
+        return type.name() + ":" + email;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,13 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+
+public record ResolvedAccount(
+    AccountType type,
+    UserServiceResponse account
+) {
+    public Long id() {
+        return account.getId();
+    }
+}
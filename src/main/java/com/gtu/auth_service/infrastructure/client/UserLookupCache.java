@@ -0,0 +1,116 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.function.Function;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.CacheLoader;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+
+import feign.FeignException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class UserLookupCache {
+
+    private final Function<String, UserServiceResponse> userLookup;
+    private final Function<String, UserServiceResponse> passengerLookup;
+    private final LoadingCache<String, UserServiceResponse> users;
+    private final LoadingCache<String, UserServiceResponse> passengers;
+    private final LastKnownAccountStore lastKnownAccounts;
+
+    public UserLookupCache(UserClient userClient, PassengerClient passengerClient, MeterRegistry meterRegistry,
+                           LastKnownAccountStore lastKnownAccounts,
+                           @Value("${auth.user-cache.ttl-ms:300000}") long ttlMs,
+                           @Value("${auth.user-cache.refresh-after-ms:60000}") long refreshAfterMs,
+                           @Value("${auth.user-cache.max-size:10000}") long maxSize) {
+        Caffeine<Object, Object> builder = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .refreshAfterWrite(Duration.ofMillis(refreshAfterMs))
+                .recordStats();
+        this.lastKnownAccounts = lastKnownAccounts;
+        this.userLookup = email -> fetch(AccountType.USER, email, userClient::getUserByEmail);
+        this.passengerLookup = email -> fetch(AccountType.PASSENGER, email, passengerClient::getPassengerByEmail);
+        this.users = builder.build(loader(userLookup));
+        this.passengers = builder.build(loader(passengerLookup));
+        CaffeineCacheMetrics.monitor(meterRegistry, users, "users");
+        CaffeineCacheMetrics.monitor(meterRegistry, passengers, "passengers");
+    }
+
+    public UserServiceResponse getUser(String email) {
+        return lookup(users, userLookup, email);
+    }
+
+    public UserServiceResponse getPassenger(String email) {
+        return lookup(passengers, passengerLookup, email);
+    }
+
+    public void evict(String email) {
+        if (email == null) {
+            return;
+        }
+        String key = normalize(email);
+        users.invalidate(key);
+        passengers.invalidate(key);
+        lastKnownAccounts.forget(key);
+    }
+
+    private UserServiceResponse fetch(AccountType type, String email, Function<String, UserServiceResponse> client) {
+        try {
+            return remember(type, email, client.apply(email));
+        } catch (FeignException.NotFound e) {
+            lastKnownAccounts.forget(type, email);
+            throw e;
+        }
+    }
+
+    private UserServiceResponse remember(AccountType type, String email, UserServiceResponse response) {
+        if (response == null || response.getId() == null) {
+            lastKnownAccounts.forget(type, email);
+        } else {
+            lastKnownAccounts.remember(type, email, response);
+        }
+        return response;
+    }
+
+    private static CacheLoader<String, UserServiceResponse> loader(Function<String, UserServiceResponse> remote) {
+        return new CacheLoader<>() {
+            @Override
+            public UserServiceResponse load(String key) {
+                return remote.apply(key);
+            }
+
+            @Override
+            public UserServiceResponse reload(String key, UserServiceResponse oldValue) {
+                try {
+                    return remote.apply(oldValue.getEmail() != null ? oldValue.getEmail() : key);
+                } catch (FeignException.NotFound e) {
+                    // a null reload removes the entry
+                    return null;
+                }
+            }
+        };
+    }
+
+    private static UserServiceResponse lookup(LoadingCache<String, UserServiceResponse> cache,
+                                              Function<String, UserServiceResponse> remote, String email) {
+        String key = normalize(email);
+        UserServiceResponse response = cache.get(key, ignored -> remote.apply(email));
+        if (response != null && response.getId() == null) {
+            cache.invalidate(key);
+        }
+        return response;
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+}
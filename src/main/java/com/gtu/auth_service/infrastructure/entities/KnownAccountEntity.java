@@ -0,0 +1,46 @@
+package com.gtu.auth_service.infrastructure.entities;
+
+import java.time.LocalDateTime;
+
+import com.gtu.auth_service.domain.model.AccountType;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "known_accounts", uniqueConstraints = {
+    @UniqueConstraint(name = "uk_known_accounts_email_type", columnNames = {"email", "account_type"})
+}, indexes = {
+    @Index(name = "idx_known_accounts_captured_at", columnList = "captured_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class KnownAccountEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String email;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", nullable = false, length = 16)
+    private AccountType accountType;
+
+    @Column(name = "account_id", nullable = false)
+    private Long accountId;
+
+    private String name;
+
+    @Column(length = 32)
+    private String role;
+
+    @Column(name = "password_hash")
+    private String passwordHash;
+
+    @Column(name = "captured_at", nullable = false)
+    private LocalDateTime capturedAt;
+}
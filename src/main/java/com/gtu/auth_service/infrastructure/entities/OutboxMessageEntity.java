@@ -0,0 +1,52 @@
+package com.gtu.auth_service.infrastructure.entities;
+
+import java.time.LocalDateTime;
+
+import com.gtu.auth_service.domain.model.OutboxStatus;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "outbox_messages", indexes = {
+    @Index(name = "idx_outbox_messages_status_next_attempt", columnList = "status, next_attempt_at")
+})
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class OutboxMessageEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String exchange;
+
+    @Column(name = "routing_key", nullable = false)
+    private String routingKey;
+
+    @Lob
+    @Column(nullable = false)
+    private byte[] payload;
+
+    @Column(name = "content_type", nullable = false, length = 64)
+    private String contentType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private OutboxStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_error", length = 512)
+    private String lastError;
+}
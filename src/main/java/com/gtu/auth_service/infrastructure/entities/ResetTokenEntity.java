@@ -2,13 +2,18 @@ package com.gtu.auth_service.infrastructure.entities;
 
 import java.time.LocalDateTime;
 
+import com.gtu.auth_service.domain.model.AccountType;
+
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "reset_tokens")
+@Table(name = "reset_tokens", indexes = {
+    @Index(name = "idx_reset_tokens_email_used", columnList = "email, used"),
+    @Index(name = "idx_reset_tokens_expiry_date", columnList = "expiry_date")
+})
 @Getter
 @NoArgsConstructor
 @AllArgsConstructor
@@ -23,9 +28,20 @@ public class ResetTokenEntity {
     @Column(nullable = false)
     private String email;
 
-    @Column(nullable = false)
+    @Column(name = "expiry_date", nullable = false)
     private LocalDateTime expiryDate;
 
     @Column(nullable = false)
     private boolean used = false;
+
+    @Column(name = "account_id")
+    private Long accountId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "account_type", length = 16)
+    private AccountType accountType;
+
+    public ResetTokenEntity(Long id, String token, String email, LocalDateTime expiryDate, boolean used) {
+        this(id, token, email, expiryDate, used, null, null);
+    }
 }
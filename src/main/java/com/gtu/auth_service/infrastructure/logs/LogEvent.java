@@ -0,0 +1,75 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+public final class LogEvent {
+
+    private static final int MAX_DETAILS = 8;
+
+    private final long timestamp;
+    private final String service;
+    private final String level;
+    private final String message;
+    private final String[] detailKeys = new String[MAX_DETAILS];
+    private final Object[] detailValues = new Object[MAX_DETAILS];
+    private int detailCount;
+
+    private LogEvent(long timestamp, String service, String level, String message) {
+        this.timestamp = timestamp;
+        this.service = service;
+        this.level = level;
+        this.message = message;
+    }
+
+    public static LogEvent of(String service, String level, String message) {
+        return new LogEvent(System.currentTimeMillis(), service, level, message);
+    }
+
+    public static LogEvent of(long timestamp, String service, String level, String message) {
+        return new LogEvent(timestamp, service, level, message);
+    }
+
+    public LogEvent detail(String key, Object value) {
+        if (detailCount < MAX_DETAILS) {
+            detailKeys[detailCount] = key;
+            detailValues[detailCount] = value;
+            detailCount++;
+        }
+        return this;
+    }
+
+    public long timestamp() {
+        return timestamp;
+    }
+
+    public String service() {
+        return service;
+    }
+
+    public String level() {
+        return level;
+    }
+
+    public String message() {
+        return message;
+    }
+
+    public int detailCount() {
+        return detailCount;
+    }
+
+    public String detailKey(int index) {
+        return detailKeys[index];
+    }
+
+    public Object detailValue(int index) {
+        return detailValues[index];
+    }
+
+    public Object detail(String key) {
+        for (int i = 0; i < detailCount; i++) {
+            if (detailKeys[i].equals(key)) {
+                return detailValues[i];
+            }
+        }
+        return null;
+    }
+}
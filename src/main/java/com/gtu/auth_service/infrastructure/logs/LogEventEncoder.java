@@ -0,0 +1,60 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.util.ByteArrayBuilder;
+
+public class LogEventEncoder {
+
+    private static final int INITIAL_BUFFER_SIZE = 512;
+
+    private final JsonFactory jsonFactory;
+    private final ThreadLocal<ByteArrayBuilder> buffers =
+            ThreadLocal.withInitial(() -> new ByteArrayBuilder(INITIAL_BUFFER_SIZE));
+
+    public LogEventEncoder(JsonFactory jsonFactory) {
+        this.jsonFactory = jsonFactory;
+    }
+
+    public byte[] encode(LogEvent event) throws IOException {
+        ByteArrayBuilder buffer = buffers.get();
+        buffer.reset();
+        try (JsonGenerator generator = jsonFactory.createGenerator(buffer, JsonEncoding.UTF8)) {
+            generator.writeStartObject();
+            generator.writeNumberField("timestamp", event.timestamp());
+            generator.writeStringField("service", event.service());
+            generator.writeStringField("level", event.level());
+            generator.writeStringField("message", event.message());
+            generator.writeObjectFieldStart("details");
+            for (int i = 0; i < event.detailCount(); i++) {
+                generator.writeFieldName(event.detailKey(i));
+                writeValue(generator, event.detailValue(i));
+            }
+            generator.writeEndObject();
+            generator.writeEndObject();
+        }
+        return buffer.toByteArray();
+    }
+
+    private static void writeValue(JsonGenerator generator, Object value) throws IOException {
+        if (value == null) {
+            generator.writeNull();
+        } else if (value instanceof String text) {
+            generator.writeString(text);
+        } else if (value instanceof Integer || value instanceof Long || value instanceof Short) {
+            generator.writeNumber(((Number) value).longValue());
+        } else if (value instanceof Double || value instanceof Float) {
+            generator.writeNumber(((Number) value).doubleValue());
+        } else if (value instanceof BigDecimal decimal) {
+            generator.writeNumber(decimal);
+        } else if (value instanceof Boolean bool) {
+            generator.writeBoolean(bool);
+        } else {
+            generator.writeString(value.toString());
+        }
+    }
+}
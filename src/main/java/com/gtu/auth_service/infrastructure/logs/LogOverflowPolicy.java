@@ -0,0 +1,6 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+public enum LogOverflowPolicy {
+    DROP_NEWEST,
+    DROP_OLDEST
+}
@@ -1,16 +1,34 @@
 package com.gtu.auth_service.infrastructure.logs;
 
-import org.springframework.amqp.core.AmqpTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
 import org.springframework.stereotype.Component;
 import org.springframework.beans.factory.annotation.Value;
 
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gtu.auth_service.infrastructure.messaging.EventMessageConverter;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
 
-import java.util.Map;
 @Component
 public class LogPublisher {
 
-    private final AmqpTemplate amqpTemplate;
+    private static final Logger log = LoggerFactory.getLogger(LogPublisher.class);
+    private static final int DROP_OLDEST_ATTEMPTS = 3;
+
+    private final RabbitOperations rabbitOperations;
 
     @Value("${rabbitmq.exchange.log}")
     private String exchange;
@@ -18,31 +36,164 @@ public class LogPublisher {
     @Value("${rabbitmq.routingkey.log}")
     private String routingKey;
 
-    private final ObjectMapper objectMapper;
+    private final LogEventEncoder encoder;
+    private final String contentType;
+    private final LogThrottle throttle;
+    private final LogRingBuffer<LogEvent> buffer;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final LogOverflowPolicy overflowPolicy;
+
+    private final Counter enqueuedCounter;
+    private final Counter droppedCounter;
+    private final Counter publishedCounter;
+    private final Counter failedCounter;
+    private final Timer publishTimer;
+
+    private volatile boolean running;
+    private Thread drainer;
 
-    public LogPublisher(AmqpTemplate amqpTemplate) {
-        this.amqpTemplate = amqpTemplate;
-        this.objectMapper = new ObjectMapper();
+    public LogPublisher(RabbitOperations rabbitOperations, MeterRegistry meterRegistry, LogThrottle throttle,
+                        EventMessageConverter messageConverter,
+                        @Value("${logs.publisher.capacity:8192}") int capacity,
+                        @Value("${logs.publisher.batch-size:100}") int batchSize,
+                        @Value("${logs.publisher.flush-interval-ms:50}") long flushIntervalMs,
+                        @Value("${logs.publisher.overflow-policy:DROP_NEWEST}") LogOverflowPolicy overflowPolicy) {
+        this.rabbitOperations = rabbitOperations;
+        this.encoder = new LogEventEncoder(messageConverter.jsonFactory());
+        this.contentType = messageConverter.contentType();
+        this.throttle = throttle;
+        this.buffer = new LogRingBuffer<>(capacity);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+        this.overflowPolicy = overflowPolicy;
+        this.enqueuedCounter = Counter.builder("auth.logs.enqueued").register(meterRegistry);
+        this.droppedCounter = Counter.builder("auth.logs.dropped").tag("policy", overflowPolicy.name()).register(meterRegistry);
+        this.publishedCounter = Counter.builder("auth.logs.published").register(meterRegistry);
+        this.failedCounter = Counter.builder("auth.logs.failed").register(meterRegistry);
+        this.publishTimer = Timer.builder("auth.logs.publish.latency").register(meterRegistry);
+        Gauge.builder("auth.logs.buffer.size", buffer, LogRingBuffer::size).register(meterRegistry);
     }
 
-    public void sendLog(String timestamp, String service, String level, String message, Map<String, Object> details) {
-        try {
-            
-            Map<String, Object> log = Map.of(
-            "timestamp", timestamp,
-            "service", service,
-            "level", level,
-            "message", message,
-            "details", details
-            );
-
-            String logJson = objectMapper.writeValueAsString(log);
-       
-            amqpTemplate.convertAndSend(exchange, routingKey, logJson);
+    @PostConstruct
+    public void start() {
+        running = true;
+        drainer = new Thread(this::drainLoop, "log-publisher");
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    @PreDestroy
+    public void stop() throws InterruptedException {
+        running = false;
+        if (drainer != null) {
+            LockSupport.unpark(drainer);
+            drainer.join(TimeUnit.NANOSECONDS.toMillis(flushIntervalNanos) + 5000);
+        }
+        emitSummaries();
+        flush();
+    }
 
+    public void publish(LogEvent event) {
+        if (throttle.admit(event)) {
+            enqueue(event);
+        }
+    }
+
+    private void enqueue(LogEvent event) {
+        if (buffer.offer(event)) {
+            enqueuedCounter.increment();
+            return;
+        }
+        if (overflowPolicy == LogOverflowPolicy.DROP_OLDEST) {
+            for (int attempt = 0; attempt < DROP_OLDEST_ATTEMPTS; attempt++) {
+                if (buffer.poll() != null) {
+                    droppedCounter.increment();
+                }
+                if (buffer.offer(event)) {
+                    enqueuedCounter.increment();
+                    return;
+                }
+            }
+        }
+        droppedCounter.increment();
+    }
+
+    public void flush() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        while (drainBatch(batch) > 0) {
+            batch.clear();
+        }
+    }
+
+    private void emitSummaries() {
+        for (LogEvent summary : throttle.drainSummaries()) {
+            enqueue(summary);
+        }
+    }
+
+    private void drainLoop() {
+        List<LogEvent> batch = new ArrayList<>(batchSize);
+        long summaryIntervalNanos = TimeUnit.MILLISECONDS.toNanos(throttle.summaryIntervalMs());
+        long nextSummary = System.nanoTime() + summaryIntervalNanos;
+        while (running) {
+            if (System.nanoTime() - nextSummary >= 0) {
+                emitSummaries();
+                nextSummary += summaryIntervalNanos;
+            }
+            if (drainBatch(batch) == 0) {
+                LockSupport.parkNanos(this, flushIntervalNanos);
+            }
+            batch.clear();
+        }
+    }
+
+    private int drainBatch(List<LogEvent> batch) {
+        LogEvent event;
+        while (batch.size() < batchSize && (event = buffer.poll()) != null) {
+            batch.add(event);
+        }
+        if (!batch.isEmpty()) {
+            publish(batch);
+        }
+        return batch.size();
+    }
+
+    private void publish(List<LogEvent> batch) {
+        List<Message> messages = new ArrayList<>(batch.size());
+        for (LogEvent event : batch) {
+            try {
+                messages.add(new Message(encoder.encode(event), messageProperties()));
+            } catch (Exception e) {
+                failedCounter.increment();
+            }
+        }
+        if (messages.isEmpty()) {
+            return;
+        }
+        long start = System.nanoTime();
+        try {
+            rabbitOperations.invoke(operations -> {
+                for (Message message : messages) {
+                    operations.send(exchange, routingKey, message);
+                }
+                return null;
+            });
+            publishedCounter.increment(messages.size());
         } catch (Exception e) {
-            e.printStackTrace();      
+            failedCounter.increment(messages.size());
+            log.warn("Failed to publish {} log events: {}", messages.size(), e.getMessage());
+        } finally {
+            publishTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
-}
\ No newline at end of file
+    private MessageProperties messageProperties() {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentType);
+        if (MessageProperties.CONTENT_TYPE_JSON.equals(contentType)) {
+            properties.setContentEncoding("UTF-8");
+        }
+        return properties;
+    }
+}
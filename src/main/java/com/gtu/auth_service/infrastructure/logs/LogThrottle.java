@@ -0,0 +1,118 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+@Component
+public class LogThrottle {
+
+    private static final String SUMMARY_KEY_SUPPRESSED = "suppressed";
+    private static final String SUMMARY_KEY_INTERVAL = "intervalMs";
+
+    private final Map<String, Double> levelRates;
+    private final Map<String, Double> messageRates;
+    private final TokenBucket tokenBucket;
+    private final long summaryIntervalMs;
+    private final Map<SuppressedKey, LongAdder> suppressed = new ConcurrentHashMap<>();
+
+    private final Counter sampledCounter;
+    private final Counter rateLimitedCounter;
+
+    public LogThrottle(MeterRegistry meterRegistry,
+                       @Value("${logs.sampling.level-rates:}") String levelRates,
+                       @Value("${logs.sampling.message-rates:}") String messageRates,
+                       @Value("${logs.rate-limit.events-per-second:0}") double eventsPerSecond,
+                       @Value("${logs.rate-limit.burst:0}") int burst,
+                       @Value("${logs.summary.interval-ms:10000}") long summaryIntervalMs) {
+        this.levelRates = parseRates(levelRates);
+        this.messageRates = parseRates(messageRates);
+        this.tokenBucket = eventsPerSecond > 0 ? new TokenBucket(eventsPerSecond, burst) : null;
+        this.summaryIntervalMs = summaryIntervalMs;
+        this.sampledCounter = Counter.builder("auth.logs.suppressed").tag("reason", "sampled").register(meterRegistry);
+        this.rateLimitedCounter = Counter.builder("auth.logs.suppressed").tag("reason", "rate_limited").register(meterRegistry);
+    }
+
+    public static LogThrottle unlimited(MeterRegistry meterRegistry) {
+        return new LogThrottle(meterRegistry, "", "", 0, 0, 10000);
+    }
+
+    public boolean admit(LogEvent event) {
+        if (isAlwaysPublished(event.level())) {
+            return true;
+        }
+        double rate = messageRates.getOrDefault(event.message(), levelRates.getOrDefault(event.level(), 1.0));
+        if (rate < 1.0 && ThreadLocalRandom.current().nextDouble() >= rate) {
+            suppress(event);
+            sampledCounter.increment();
+            return false;
+        }
+        if (tokenBucket != null && !tokenBucket.tryAcquire()) {
+            suppress(event);
+            rateLimitedCounter.increment();
+            return false;
+        }
+        return true;
+    }
+
+    public long summaryIntervalMs() {
+        return summaryIntervalMs;
+    }
+
+    public List<LogEvent> drainSummaries() {
+        if (suppressed.isEmpty()) {
+            return Collections.emptyList();
+        }
+        List<LogEvent> summaries = new ArrayList<>();
+        suppressed.forEach((key, count) -> {
+            long total = count.sumThenReset();
+            if (total > 0) {
+                summaries.add(LogEvent.of(key.service(), key.level(), key.message())
+                        .detail(SUMMARY_KEY_SUPPRESSED, total)
+                        .detail(SUMMARY_KEY_INTERVAL, summaryIntervalMs));
+            }
+        });
+        return summaries;
+    }
+
+    private void suppress(LogEvent event) {
+        suppressed.computeIfAbsent(new SuppressedKey(event.service(), event.level(), event.message()),
+                key -> new LongAdder()).increment();
+    }
+
+    private static boolean isAlwaysPublished(String level) {
+        return "ERROR".equals(level) || "CRITICAL".equals(level);
+    }
+
+    static Map<String, Double> parseRates(String rates) {
+        Map<String, Double> parsed = new HashMap<>();
+        if (rates == null || rates.isBlank()) {
+            return parsed;
+        }
+        for (String entry : rates.split(",")) {
+            int separator = entry.lastIndexOf('=');
+            if (separator <= 0) {
+                throw new IllegalStateException("Invalid log sampling rate: " + entry);
+            }
+            double rate = Double.parseDouble(entry.substring(separator + 1).trim());
+            if (rate < 0 || rate > 1) {
+                throw new IllegalStateException("Log sampling rate must be between 0 and 1: " + entry);
+            }
+            parsed.put(entry.substring(0, separator).trim(), rate);
+        }
+        return parsed;
+    }
+
+    private record SuppressedKey(String service, String level, String message) {}
+}
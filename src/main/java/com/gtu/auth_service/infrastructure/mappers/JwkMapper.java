@@ -0,0 +1,61 @@
+package com.gtu.auth_service.infrastructure.mappers;
+
+import java.math.BigInteger;
+import java.security.interfaces.ECPublicKey;
+import java.security.interfaces.EdECPublicKey;
+import java.util.Arrays;
+import java.util.Base64;
+
+import com.gtu.auth_service.application.dto.JwkDTO;
+import com.gtu.auth_service.infrastructure.security.JwtKeyRing;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class JwkMapper {
+
+    private static final int P256_COORDINATE_BYTES = 32;
+    private static final int ED25519_KEY_BYTES = 32;
+
+    public JwkDTO toJwk(JwtKeyRing.SigningKey key) {
+        if (key.verificationKey() instanceof ECPublicKey ecKey) {
+            return new JwkDTO(
+                "EC",
+                "P-256",
+                encode(unsigned(ecKey.getW().getAffineX())),
+                encode(unsigned(ecKey.getW().getAffineY())),
+                key.kid(),
+                "sig",
+                key.algorithm()
+            );
+        }
+        if (key.verificationKey() instanceof EdECPublicKey edKey) {
+            byte[] encoded = edKey.getEncoded();
+            return new JwkDTO(
+                "OKP",
+                "Ed25519",
+                encode(Arrays.copyOfRange(encoded, encoded.length - ED25519_KEY_BYTES, encoded.length)),
+                null,
+                key.kid(),
+                "sig",
+                key.algorithm()
+            );
+        }
+        throw new IllegalArgumentException("Key " + key.kid() + " cannot be published as a JWK");
+    }
+
+    private byte[] unsigned(BigInteger value) {
+        byte[] bytes = value.toByteArray();
+        if (bytes.length == P256_COORDINATE_BYTES) {
+            return bytes;
+        }
+        byte[] padded = new byte[P256_COORDINATE_BYTES];
+        int length = Math.min(bytes.length, P256_COORDINATE_BYTES);
+        System.arraycopy(bytes, bytes.length - length, padded, P256_COORDINATE_BYTES - length, length);
+        return padded;
+    }
+
+    private String encode(byte[] bytes) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+}
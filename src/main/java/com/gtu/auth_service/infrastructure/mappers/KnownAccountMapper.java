@@ -0,0 +1,22 @@
+package com.gtu.auth_service.infrastructure.mappers;
+
+import com.gtu.auth_service.domain.model.KnownAccount;
+import com.gtu.auth_service.infrastructure.entities.KnownAccountEntity;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class KnownAccountMapper {
+
+    public KnownAccount toDomain(KnownAccountEntity entity) {
+        return new KnownAccount(
+            entity.getEmail(),
+            entity.getAccountType(),
+            entity.getAccountId(),
+            entity.getName(),
+            entity.getRole(),
+            entity.getPasswordHash(),
+            entity.getCapturedAt()
+        );
+    }
+}
@@ -0,0 +1,40 @@
+package com.gtu.auth_service.infrastructure.mappers;
+
+import com.gtu.auth_service.domain.model.OutboxMessage;
+import com.gtu.auth_service.infrastructure.entities.OutboxMessageEntity;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class OutboxMessageMapper {
+
+    public OutboxMessageEntity toEntity(OutboxMessage message) {
+        return new OutboxMessageEntity(
+            message.getId(),
+            message.getExchange(),
+            message.getRoutingKey(),
+            message.getPayload(),
+            message.getContentType(),
+            message.getStatus(),
+            message.getAttempts(),
+            message.getNextAttemptAt(),
+            message.getCreatedAt(),
+            message.getLastError()
+        );
+    }
+
+    public OutboxMessage toDomain(OutboxMessageEntity entity) {
+        return new OutboxMessage(
+            entity.getId(),
+            entity.getExchange(),
+            entity.getRoutingKey(),
+            entity.getPayload(),
+            entity.getContentType(),
+            entity.getStatus(),
+            entity.getAttempts(),
+            entity.getNextAttemptAt(),
+            entity.getCreatedAt(),
+            entity.getLastError()
+        );
+    }
+}
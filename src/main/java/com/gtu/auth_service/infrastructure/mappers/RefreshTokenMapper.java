@@ -0,0 +1,40 @@
+package com.gtu.auth_service.infrastructure.mappers;
+
+import com.gtu.auth_service.domain.model.RefreshToken;
+import com.gtu.auth_service.infrastructure.entities.RefreshTokenEntity;
+
+import lombok.experimental.UtilityClass;
+
+@UtilityClass
+public class RefreshTokenMapper {
+
+    public RefreshTokenEntity toEntity(RefreshToken refreshToken) {
+        return new RefreshTokenEntity(
+            refreshToken.getId(),
+            refreshToken.getTokenHash(),
+            refreshToken.getFamilyId(),
+            refreshToken.getUserId(),
+            refreshToken.getEmail(),
+            refreshToken.getName(),
+            refreshToken.getRole(),
+            refreshToken.getExpiryDate(),
+            refreshToken.isUsed(),
+            refreshToken.isRevoked()
+        );
+    }
+
+    public RefreshToken toDomain(RefreshTokenEntity entity) {
+        return new RefreshToken(
+            entity.getId(),
+            entity.getTokenHash(),
+            entity.getFamilyId(),
+            entity.getUserId(),
+            entity.getEmail(),
+            entity.getName(),
+            entity.getRole(),
+            entity.getExpiryDate(),
+            entity.isUsed(),
+            entity.isRevoked()
+        );
+    }
+}
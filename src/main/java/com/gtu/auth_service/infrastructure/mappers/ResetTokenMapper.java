@@ -14,7 +14,9 @@ public class ResetTokenMapper {
             resetToken.getToken(),
             resetToken.getEmail(),
             resetToken.getExpiryDate(),
-            resetToken.isUsed()
+            resetToken.isUsed(),
+            resetToken.getAccountId(),
+            resetToken.getAccountType()
         );
     }
 
@@ -24,7 +26,9 @@ public class ResetTokenMapper {
             entity.getToken(),
             entity.getEmail(),
             entity.getExpiryDate(),
-            entity.isUsed()
+            entity.isUsed(),
+            entity.getAccountId(),
+            entity.getAccountType()
         );
     }
 }
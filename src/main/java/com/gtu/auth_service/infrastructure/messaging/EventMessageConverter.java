@@ -0,0 +1,57 @@
+package com.gtu.auth_service.infrastructure.messaging;
+
+import java.io.IOException;
+import java.util.EnumMap;
+import java.util.Map;
+
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.support.converter.MessageConversionException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+@Component
+public class EventMessageConverter {
+
+    private final WireFormat wireFormat;
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    public EventMessageConverter(ObjectMapper objectMapper,
+                                 @Value("${messaging.wire-format:JSON}") WireFormat wireFormat) {
+        this.wireFormat = wireFormat;
+        for (WireFormat format : WireFormat.values()) {
+            mappers.put(format, format.mapper(objectMapper));
+        }
+    }
+
+    public WireFormat wireFormat() {
+        return wireFormat;
+    }
+
+    public String contentType() {
+        return wireFormat.contentType();
+    }
+
+    public JsonFactory jsonFactory() {
+        return mappers.get(wireFormat).getFactory();
+    }
+
+    public byte[] serialize(Object payload) {
+        try {
+            return mappers.get(wireFormat).writeValueAsBytes(payload);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to serialize " + payload.getClass().getSimpleName(), e);
+        }
+    }
+
+    public <T> T deserialize(Message message, Class<T> type) {
+        WireFormat format = WireFormat.fromContentType(message.getMessageProperties().getContentType());
+        try {
+            return mappers.get(format).readValue(message.getBody(), type);
+        } catch (IOException e) {
+            throw new MessageConversionException("Failed to read " + format + " message", e);
+        }
+    }
+}
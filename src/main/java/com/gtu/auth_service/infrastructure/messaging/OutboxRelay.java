@@ -0,0 +1,131 @@
+package com.gtu.auth_service.infrastructure.messaging;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.gtu.auth_service.domain.model.OutboxMessage;
+import com.gtu.auth_service.domain.repository.OutboxRepository;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+@Component
+public class OutboxRelay {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxRelay.class);
+
+    private final OutboxRepository outboxRepository;
+    private final RabbitOperations rabbitOperations;
+    private final int batchSize;
+    private final long confirmTimeoutMs;
+    private final long initialBackoffMs;
+    private final long maxBackoffMs;
+    private final int maxAttempts;
+
+    private final Counter publishedCounter;
+    private final Counter retriedCounter;
+    private final Counter failedCounter;
+    private final Timer batchTimer;
+
+    public OutboxRelay(OutboxRepository outboxRepository, RabbitOperations rabbitOperations, MeterRegistry meterRegistry,
+                       @Value("${outbox.relay.batch-size:50}") int batchSize,
+                       @Value("${outbox.relay.confirm-timeout-ms:5000}") long confirmTimeoutMs,
+                       @Value("${outbox.relay.initial-backoff-ms:1000}") long initialBackoffMs,
+                       @Value("${outbox.relay.max-backoff-ms:300000}") long maxBackoffMs,
+                       @Value("${outbox.relay.max-attempts:10}") int maxAttempts) {
+        this.outboxRepository = outboxRepository;
+        this.rabbitOperations = rabbitOperations;
+        this.batchSize = batchSize;
+        this.confirmTimeoutMs = confirmTimeoutMs;
+        this.initialBackoffMs = initialBackoffMs;
+        this.maxBackoffMs = maxBackoffMs;
+        this.maxAttempts = maxAttempts;
+        this.publishedCounter = Counter.builder("auth.outbox.published").register(meterRegistry);
+        this.retriedCounter = Counter.builder("auth.outbox.retried").register(meterRegistry);
+        this.failedCounter = Counter.builder("auth.outbox.failed").register(meterRegistry);
+        this.batchTimer = Timer.builder("auth.outbox.relay.latency").register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        while (relayBatch() == batchSize) {
+            // keep draining while the backlog fills whole batches
+        }
+    }
+
+    int relayBatch() {
+        List<OutboxMessage> due = outboxRepository.findDue(LocalDateTime.now(), batchSize);
+        if (due.isEmpty()) {
+            return 0;
+        }
+        long start = System.nanoTime();
+        String error = null;
+        boolean confirmed;
+        try {
+            confirmed = Boolean.TRUE.equals(rabbitOperations.invoke(operations -> {
+                for (OutboxMessage message : due) {
+                    operations.send(message.getExchange(), message.getRoutingKey(), toMessage(message));
+                }
+                return operations.waitForConfirms(confirmTimeoutMs);
+            }));
+            if (!confirmed) {
+                error = "Broker did not confirm the batch within " + confirmTimeoutMs + " ms";
+            }
+        } catch (Exception e) {
+            confirmed = false;
+            error = e.getMessage();
+        } finally {
+            batchTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        if (confirmed) {
+            outboxRepository.deleteAll(due.stream().map(OutboxMessage::getId).toList());
+            publishedCounter.increment(due.size());
+        } else {
+            log.warn("Failed to relay {} outbox messages: {}", due.size(), error);
+            for (OutboxMessage message : due) {
+                retryOrFail(message, error);
+            }
+        }
+        return due.size();
+    }
+
+    private void retryOrFail(OutboxMessage message, String error) {
+        int attempts = message.getAttempts() + 1;
+        if (attempts >= maxAttempts) {
+            outboxRepository.markFailed(message.getId(), attempts, error);
+            failedCounter.increment();
+            return;
+        }
+        outboxRepository.scheduleRetry(message.getId(), attempts,
+                LocalDateTime.now().plusNanos(TimeUnit.MILLISECONDS.toNanos(backoffMs(attempts))), error);
+        retriedCounter.increment();
+    }
+
+    long backoffMs(int attempts) {
+        int shift = Math.min(attempts - 1, 30);
+        return Math.min(maxBackoffMs, initialBackoffMs << shift);
+    }
+
+    private static Message toMessage(OutboxMessage message) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(message.getContentType());
+        if (WireFormat.fromContentType(message.getContentType()) == WireFormat.JSON) {
+            properties.setContentEncoding(StandardCharsets.UTF_8.name());
+        }
+        properties.setMessageId(String.valueOf(message.getId()));
+        return new Message(message.getPayload(), properties);
+    }
+}
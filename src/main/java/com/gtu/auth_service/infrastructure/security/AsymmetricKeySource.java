@@ -0,0 +1,110 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.GeneralSecurityException;
+import java.security.KeyFactory;
+import java.security.KeyPair;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.Signature;
+import java.security.interfaces.ECPublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.List;
+
+public class AsymmetricKeySource implements JwtKeySource {
+
+    private static final byte[] PROBE = "gtu-auth-service".getBytes(StandardCharsets.UTF_8);
+
+    private final String algorithm;
+    private final String privateKeyFile;
+    private final String publicKeyFile;
+
+    public AsymmetricKeySource(String algorithm, String privateKeyFile, String publicKeyFile) {
+        if (!"ES256".equals(algorithm) && !"EdDSA".equals(algorithm)) {
+            throw new IllegalStateException("Unsupported JWT algorithm: " + algorithm);
+        }
+        this.algorithm = algorithm;
+        this.privateKeyFile = privateKeyFile;
+        this.publicKeyFile = publicKeyFile;
+    }
+
+    @Override
+    public String read() {
+        boolean hasPrivate = privateKeyFile != null && !privateKeyFile.isBlank();
+        boolean hasPublic = publicKeyFile != null && !publicKeyFile.isBlank();
+        if (!hasPrivate || !hasPublic) {
+            throw new IllegalStateException("jwt.private-key-file and jwt.public-key-file must both be configured for "
+                    + algorithm);
+        }
+        return readFile(privateKeyFile) + "\n" + readFile(publicKeyFile);
+    }
+
+    @Override
+    public List<JwtKeyRing.SigningKey> parse(String raw) {
+        try {
+            KeyPair keyPair = new KeyPair(
+                    decodePublic(pemBody(raw, "PUBLIC KEY")),
+                    decodePrivate(pemBody(raw, "PRIVATE KEY")));
+            validate(keyPair);
+            String kid = JwtKeyRing.keyId(keyPair.getPublic().getEncoded());
+            return List.of(new JwtKeyRing.SigningKey(kid, algorithm, keyPair.getPrivate(), keyPair.getPublic()));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("Invalid " + algorithm + " key pair: " + e.getMessage(), e);
+        }
+    }
+
+    private String keyFactoryAlgorithm() {
+        return "ES256".equals(algorithm) ? "EC" : "Ed25519";
+    }
+
+    private PrivateKey decodePrivate(byte[] der) throws GeneralSecurityException {
+        return KeyFactory.getInstance(keyFactoryAlgorithm()).generatePrivate(new PKCS8EncodedKeySpec(der));
+    }
+
+    private PublicKey decodePublic(byte[] der) throws GeneralSecurityException {
+        return KeyFactory.getInstance(keyFactoryAlgorithm()).generatePublic(new X509EncodedKeySpec(der));
+    }
+
+    private void validate(KeyPair keyPair) throws GeneralSecurityException {
+        if (keyPair.getPublic() instanceof ECPublicKey ecKey
+                && ecKey.getParams().getCurve().getField().getFieldSize() != 256) {
+            throw new IllegalStateException("ES256 requires a P-256 key");
+        }
+        String signatureAlgorithm = "ES256".equals(algorithm) ? "SHA256withECDSA" : "Ed25519";
+        Signature signer = Signature.getInstance(signatureAlgorithm);
+        signer.initSign(keyPair.getPrivate());
+        signer.update(PROBE);
+        byte[] signature = signer.sign();
+
+        Signature verifier = Signature.getInstance(signatureAlgorithm);
+        verifier.initVerify(keyPair.getPublic());
+        verifier.update(PROBE);
+        if (!verifier.verify(signature)) {
+            throw new IllegalStateException("JWT private and public keys do not match");
+        }
+    }
+
+    private static String readFile(String file) {
+        try {
+            return Files.readString(Path.of(file), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new IllegalStateException("Cannot read JWT key file: " + file, e);
+        }
+    }
+
+    private static byte[] pemBody(String pem, String type) {
+        String begin = "-----BEGIN " + type + "-----";
+        String end = "-----END " + type + "-----";
+        int start = pem.indexOf(begin);
+        int stop = pem.indexOf(end, start + 1);
+        if (start < 0 || stop < 0) {
+            throw new IllegalArgumentException("missing " + type + " PEM block");
+        }
+        return Base64.getMimeDecoder().decode(pem.substring(start + begin.length(), stop));
+    }
+}
@@ -0,0 +1,68 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+
+import javax.crypto.SecretKey;
+
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+public class HmacKeySource implements JwtKeySource {
+
+    private static final int MIN_KEY_BYTES = 32;
+
+    private final String secret;
+    private final String secretFile;
+
+    public HmacKeySource(String secret, String secretFile) {
+        this.secret = secret;
+        this.secretFile = secretFile;
+    }
+
+    @Override
+    public String read() {
+        if (secretFile != null && !secretFile.isBlank()) {
+            try {
+                return Files.readString(Path.of(secretFile), StandardCharsets.UTF_8).trim();
+            } catch (IOException e) {
+                throw new IllegalStateException("Cannot read JWT secret file: " + secretFile, e);
+            }
+        }
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("JWT_SECRET or jwt.secret-file must be configured");
+        }
+        return secret.trim();
+    }
+
+    @Override
+    public List<JwtKeyRing.SigningKey> parse(String raw) {
+        List<JwtKeyRing.SigningKey> keys = Arrays.stream(raw.split("[,\\s]+"))
+                .filter(s -> !s.isBlank())
+                .map(HmacKeySource::toSigningKey)
+                .toList();
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("JWT secret must not be empty");
+        }
+        return keys;
+    }
+
+    private static JwtKeyRing.SigningKey toSigningKey(String encoded) {
+        byte[] keyBytes;
+        try {
+            keyBytes = Decoders.BASE64.decode(encoded);
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("JWT secret must be Base64 encoded", e);
+        }
+        if (keyBytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("JWT secret must be at least " + (MIN_KEY_BYTES * 8) + " bits");
+        }
+        SecretKey key = Keys.hmacShaKeyFor(keyBytes);
+        String algorithm = "HS" + key.getAlgorithm().substring("HmacSHA".length());
+        return new JwtKeyRing.SigningKey(JwtKeyRing.keyId(keyBytes), algorithm, key, key);
+    }
+}
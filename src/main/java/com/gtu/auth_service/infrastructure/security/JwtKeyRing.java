@@ -0,0 +1,132 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Clock;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javax.crypto.SecretKey;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+
+public class JwtKeyRing {
+
+    private static final Logger log = LoggerFactory.getLogger(JwtKeyRing.class);
+
+    private final JwtKeySource source;
+    private final long retentionMs;
+    private final Clock clock;
+
+    private final AtomicReference<KeyRingState> state = new AtomicReference<>();
+
+    public JwtKeyRing(JwtKeySource source, long retentionMs) {
+        this(source, retentionMs, Clock.systemUTC());
+    }
+
+    JwtKeyRing(JwtKeySource source, long retentionMs, Clock clock) {
+        this.source = source;
+        this.retentionMs = retentionMs;
+        this.clock = clock;
+        String raw = source.read();
+        this.state.set(load(raw, source.parse(raw), null));
+    }
+
+    public SigningKey activeKey() {
+        return state.get().active();
+    }
+
+    public Optional<SigningKey> findKey(String kid) {
+        KeyRingState current = state.get();
+        SigningKey key = current.keys().get(kid);
+        if (key != null) {
+            return Optional.of(key);
+        }
+        RetiredKey retired = current.retired().get(kid);
+        if (retired != null && clock.instant().isBefore(retired.retainUntil())) {
+            return Optional.of(retired.key());
+        }
+        return Optional.empty();
+    }
+
+    public List<SigningKey> verificationKeys() {
+        KeyRingState current = state.get();
+        Instant now = clock.instant();
+        List<SigningKey> keys = new ArrayList<>(current.keys().values());
+        current.retired().values().stream()
+                .filter(retired -> now.isBefore(retired.retainUntil()))
+                .map(RetiredKey::key)
+                .forEach(keys::add);
+        return keys;
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.secret-reload-interval-ms:30000}")
+    public void reload() {
+        try {
+            String raw = source.read();
+            KeyRingState current = state.get();
+            if (raw.equals(current.raw())) {
+                return;
+            }
+            state.set(load(raw, source.parse(raw), current));
+            log.info("JWT key ring reloaded, active kid {}", activeKey().kid());
+        } catch (RuntimeException e) {
+            log.warn("JWT key ring reload failed, keeping the current keys: {}", e.getMessage());
+        }
+    }
+
+    private KeyRingState load(String raw, List<SigningKey> loaded, KeyRingState previous) {
+        Map<String, SigningKey> keys = new LinkedHashMap<>();
+        loaded.forEach(key -> keys.put(key.kid(), key));
+        SigningKey active = loaded.get(0);
+
+        Map<String, RetiredKey> retired = new HashMap<>();
+        if (previous != null) {
+            Instant now = clock.instant();
+            previous.retired().forEach((kid, key) -> {
+                if (!keys.containsKey(kid) && now.isBefore(key.retainUntil())) {
+                    retired.put(kid, key);
+                }
+            });
+            Instant retainUntil = now.plusMillis(retentionMs);
+            previous.keys().forEach((kid, key) -> {
+                if (!keys.containsKey(kid)) {
+                    retired.put(kid, new RetiredKey(key, retainUntil));
+                }
+            });
+        }
+        return new KeyRingState(raw, active, Collections.unmodifiableMap(keys), Map.copyOf(retired));
+    }
+
+    static String keyId(byte[] keyMaterial) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(keyMaterial);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(Arrays.copyOf(digest, 8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public record SigningKey(String kid, String algorithm, Key signingKey, Key verificationKey) {
+        public boolean isSymmetric() {
+            return signingKey instanceof SecretKey;
+        }
+    }
+
+    private record RetiredKey(SigningKey key, Instant retainUntil) {}
+
+    private record KeyRingState(String raw, SigningKey active, Map<String, SigningKey> keys,
+                                Map<String, RetiredKey> retired) {}
+}
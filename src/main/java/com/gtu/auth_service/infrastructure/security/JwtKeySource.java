@@ -0,0 +1,8 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import java.util.List;
+
+public interface JwtKeySource {
+    String read();
+    List<JwtKeyRing.SigningKey> parse(String raw);
+}
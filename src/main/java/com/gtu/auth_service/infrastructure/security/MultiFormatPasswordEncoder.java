@@ -0,0 +1,92 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.DelegatingPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+public class MultiFormatPasswordEncoder implements PasswordEncoder {
+
+    public static final String BCRYPT = "bcrypt";
+    public static final String PBKDF2 = "pbkdf2";
+
+    private static final Pattern LEGACY_BCRYPT = Pattern.compile("^\\$2[abxy]?\\$\\d\\d\\$.*");
+    private static final String CALIBRATION_PASSWORD = "calibration-password";
+    private static final int CALIBRATION_COST = 8;
+
+    private final String idForEncode;
+    private final Map<String, PasswordEncoder> encoders;
+    private final DelegatingPasswordEncoder delegate;
+
+    public MultiFormatPasswordEncoder(String idForEncode, int bcryptCost) {
+        this.encoders = Map.of(
+                BCRYPT, new BCryptPasswordEncoder(bcryptCost),
+                PBKDF2, Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8()
+        );
+        if (!encoders.containsKey(idForEncode)) {
+            throw new IllegalStateException("Unsupported password hashing algorithm: " + idForEncode);
+        }
+        this.idForEncode = idForEncode;
+        this.delegate = new DelegatingPasswordEncoder(idForEncode, encoders);
+        this.delegate.setDefaultPasswordEncoderForMatches(encoders.get(BCRYPT));
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        if (rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        return delegate.matches(rawPassword, encodedPassword);
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        String id = algorithmOf(encodedPassword);
+        if (!idForEncode.equals(id)) {
+            return true;
+        }
+        try {
+            return encoders.get(id).upgradeEncoding(stripId(encodedPassword));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+
+    public static String algorithmOf(String encodedPassword) {
+        if (encodedPassword == null) {
+            return null;
+        }
+        int end = encodedPassword.indexOf('}');
+        if (encodedPassword.startsWith("{") && end > 0) {
+            return encodedPassword.substring(1, end);
+        }
+        return LEGACY_BCRYPT.matcher(encodedPassword).matches() ? BCRYPT : null;
+    }
+
+    private static String stripId(String encodedPassword) {
+        return encodedPassword.startsWith("{") ? encodedPassword.substring(encodedPassword.indexOf('}') + 1) : encodedPassword;
+    }
+
+    public static int calibrateBCryptCost(long targetVerifyMs, int minCost, int maxCost) {
+        BCryptPasswordEncoder probe = new BCryptPasswordEncoder(CALIBRATION_COST);
+        String hash = probe.encode(CALIBRATION_PASSWORD);
+        probe.matches(CALIBRATION_PASSWORD, hash);
+        long fastest = Long.MAX_VALUE;
+        for (int i = 0; i < 3; i++) {
+            long start = System.nanoTime();
+            probe.matches(CALIBRATION_PASSWORD, hash);
+            fastest = Math.min(fastest, System.nanoTime() - start);
+        }
+        double probeMs = Math.max(fastest, 1) / 1_000_000.0;
+        int cost = CALIBRATION_COST + (int) Math.floor(Math.log(targetVerifyMs / probeMs) / Math.log(2));
+        return Math.max(minCost, Math.min(maxCost, cost));
+    }
+}
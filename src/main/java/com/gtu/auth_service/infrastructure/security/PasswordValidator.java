@@ -1,21 +1,112 @@
 package com.gtu.auth_service.infrastructure.security;
 
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Component;
 
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+
 @Component
 public class PasswordValidator {
-    private final BCryptPasswordEncoder passwordEncoder;
+    private static final String BUSY_MESSAGE = "Password verification is busy, please retry later";
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolExecutor executor;
+    private final long timeoutMs;
+    private final long retryAfterSeconds;
+    private final Timer queueWaitTimer;
+    private final Counter rejectedCounter;
+    private final Counter upgradeCounter;
 
-    public PasswordValidator() {
-        this.passwordEncoder = new BCryptPasswordEncoder(10);
+    @Autowired
+    public PasswordValidator(PasswordEncoder passwordEncoder, MeterRegistry meterRegistry,
+                             @Value("${password.hashing.threads:0}") int threads,
+                             @Value("${password.hashing.queue-capacity:64}") int queueCapacity,
+                             @Value("${password.hashing.timeout-ms:5000}") long timeoutMs,
+                             @Value("${password.hashing.retry-after-seconds:1}") long retryAfterSeconds) {
+        this(passwordEncoder, newExecutor(threads, queueCapacity), meterRegistry, timeoutMs, retryAfterSeconds);
+    }
+
+    PasswordValidator(PasswordEncoder passwordEncoder, ThreadPoolExecutor executor, MeterRegistry meterRegistry,
+                      long timeoutMs, long retryAfterSeconds) {
+        this.passwordEncoder = passwordEncoder;
+        this.executor = executor;
+        this.timeoutMs = timeoutMs;
+        this.retryAfterSeconds = retryAfterSeconds;
+        Gauge.builder("auth.password.queue.depth", executor, e -> e.getQueue().size()).register(meterRegistry);
+        Gauge.builder("auth.password.active", executor, ThreadPoolExecutor::getActiveCount).register(meterRegistry);
+        this.queueWaitTimer = Timer.builder("auth.password.queue.wait").register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.password.rejected").register(meterRegistry);
+        this.upgradeCounter = Counter.builder("auth.password.upgrade.needed").register(meterRegistry);
     }
 
     public boolean validate(String rawPassword, String encodedPassword) {
+        long enqueuedAt = System.nanoTime();
+        Future<Boolean> result;
         try {
-            return passwordEncoder.matches(rawPassword, encodedPassword);
-        } catch (Exception e) {
+            result = executor.submit(() -> {
+                queueWaitTimer.record(System.nanoTime() - enqueuedAt, TimeUnit.NANOSECONDS);
+                boolean matches = passwordEncoder.matches(rawPassword, encodedPassword);
+                if (matches && needsUpgrade(encodedPassword)) {
+                    upgradeCounter.increment();
+                }
+                return matches;
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        }
+
+        try {
+            return result.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            result.cancel(true);
+            rejectedCounter.increment();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (InterruptedException e) {
+            result.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException(BUSY_MESSAGE, retryAfterSeconds);
+        } catch (ExecutionException e) {
             return false;
         }
     }
-}
\ No newline at end of file
+
+    public boolean needsUpgrade(String encodedPassword) {
+        return passwordEncoder.upgradeEncoding(encodedPassword);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static ThreadPoolExecutor newExecutor(int threads, int queueCapacity) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        AtomicInteger counter = new AtomicInteger();
+        ThreadFactory threadFactory = runnable -> {
+            Thread thread = new Thread(runnable, "password-hashing-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        };
+        return new ThreadPoolExecutor(poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), threadFactory, new ThreadPoolExecutor.AbortPolicy());
+    }
+}
@@ -0,0 +1,177 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Optional;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.gtu.auth_service.domain.model.AccountType;
+
+@Component
+public class ResetTokenSigner {
+
+    public static final String STATELESS_MODE = "stateless";
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+    private static final int MIN_KEY_BYTES = 32;
+    private static final byte VERSION = 1;
+    private static final int FINGERPRINT_BYTES = 16;
+    private static final int HEADER_BYTES = 1 + 1 + Long.BYTES + Long.BYTES + FINGERPRINT_BYTES;
+    private static final byte[] FINGERPRINT_CONTEXT = "reset-token-fingerprint".getBytes(StandardCharsets.UTF_8);
+
+    private final boolean enabled;
+    private final long ttlMs;
+    private final Clock clock;
+    private final SecretKeySpec macKey;
+    private final Cache<String, Boolean> redeemed;
+
+    @Autowired
+    public ResetTokenSigner(@Value("${reset-token.mode:table}") String mode,
+                            @Value("${reset-token.signing-secret:}") String secret,
+                            @Value("${reset-token.ttl-ms:900000}") long ttlMs) {
+        this(mode, secret, ttlMs, Clock.systemUTC());
+    }
+
+    ResetTokenSigner(String mode, String secret, long ttlMs, Clock clock) {
+        this.enabled = STATELESS_MODE.equalsIgnoreCase(mode);
+        this.ttlMs = ttlMs;
+        this.clock = clock;
+        this.macKey = enabled ? new SecretKeySpec(decodeSecret(secret), HMAC_ALGORITHM) : null;
+        this.redeemed = Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .build();
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public boolean isSigned(String token) {
+        return enabled && token != null && token.indexOf('.') > 0;
+    }
+
+    public Instant expiresAt() {
+        return clock.instant().plusMillis(ttlMs);
+    }
+
+    public String issue(AccountType accountType, Long accountId, String email, String passwordHash) {
+        requireEnabled();
+        byte[] emailBytes = email.getBytes(StandardCharsets.UTF_8);
+        ByteBuffer payload = ByteBuffer.allocate(HEADER_BYTES + emailBytes.length)
+                .put(VERSION)
+                .put((byte) accountType.ordinal())
+                .putLong(accountId)
+                .putLong(expiresAt().getEpochSecond())
+                .put(fingerprint(passwordHash))
+                .put(emailBytes);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload.array()) + "." + encoder.encodeToString(mac(payload.array()));
+    }
+
+    public Optional<Claims> verify(String token) {
+        if (!isSigned(token)) {
+            return Optional.empty();
+        }
+        int dot = token.indexOf('.');
+        byte[] payload;
+        byte[] signature;
+        try {
+            Base64.Decoder decoder = Base64.getUrlDecoder();
+            payload = decoder.decode(token.substring(0, dot));
+            signature = decoder.decode(token.substring(dot + 1));
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (payload.length <= HEADER_BYTES || !MessageDigest.isEqual(signature, mac(payload))) {
+            return Optional.empty();
+        }
+        ByteBuffer buffer = ByteBuffer.wrap(payload);
+        int typeIndex = buffer.get(1);
+        if (buffer.get(0) != VERSION || typeIndex < 0 || typeIndex >= AccountType.values().length) {
+            return Optional.empty();
+        }
+        long accountId = buffer.getLong(2);
+        Instant expiresAt = Instant.ofEpochSecond(buffer.getLong(2 + Long.BYTES));
+        if (!clock.instant().isBefore(expiresAt)) {
+            return Optional.empty();
+        }
+        int fingerprintOffset = 2 + 2 * Long.BYTES;
+        byte[] fingerprint = Arrays.copyOfRange(payload, fingerprintOffset, HEADER_BYTES);
+        String email = new String(payload, HEADER_BYTES, payload.length - HEADER_BYTES, StandardCharsets.UTF_8);
+        return Optional.of(new Claims(AccountType.values()[typeIndex], accountId, email, expiresAt, fingerprint));
+    }
+
+    public boolean matchesPassword(Claims claims, String passwordHash) {
+        return MessageDigest.isEqual(claims.fingerprint(), fingerprint(passwordHash));
+    }
+
+    // Only covers the window before the password change is visible; the fingerprint covers the rest.
+    public boolean claim(String token) {
+        return redeemed.asMap().putIfAbsent(token, Boolean.TRUE) == null;
+    }
+
+    public void release(String token) {
+        redeemed.invalidate(token);
+    }
+
+    private byte[] fingerprint(String passwordHash) {
+        Mac mac = newMac();
+        mac.update(FINGERPRINT_CONTEXT);
+        byte[] digest = mac.doFinal(passwordHash == null ? new byte[0] : passwordHash.getBytes(StandardCharsets.UTF_8));
+        return Arrays.copyOf(digest, FINGERPRINT_BYTES);
+    }
+
+    private byte[] mac(byte[] payload) {
+        return newMac().doFinal(payload);
+    }
+
+    private Mac newMac() {
+        requireEnabled();
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(macKey);
+            return mac;
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private void requireEnabled() {
+        if (!enabled) {
+            throw new IllegalStateException("Signed reset tokens require reset-token.mode=" + STATELESS_MODE);
+        }
+    }
+
+    private static byte[] decodeSecret(String secret) {
+        if (secret == null || secret.isBlank()) {
+            throw new IllegalStateException("reset-token.signing-secret must be configured in stateless mode");
+        }
+        byte[] keyBytes;
+        try {
+            keyBytes = Base64.getDecoder().decode(secret.trim());
+        } catch (IllegalArgumentException e) {
+            throw new IllegalStateException("reset-token.signing-secret must be Base64 encoded", e);
+        }
+        if (keyBytes.length < MIN_KEY_BYTES) {
+            throw new IllegalStateException("reset-token.signing-secret must be at least " + MIN_KEY_BYTES + " bytes");
+        }
+        return keyBytes;
+    }
+
+    public record Claims(AccountType accountType, Long accountId, String email, Instant expiresAt, byte[] fingerprint) {}
+}
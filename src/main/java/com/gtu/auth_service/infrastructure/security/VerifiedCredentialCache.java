@@ -0,0 +1,93 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.util.Locale;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+
+@Component
+public class VerifiedCredentialCache {
+
+    private static final String HMAC_ALGORITHM = "HmacSHA256";
+
+    private final boolean enabled;
+    private final SecretKeySpec macKey;
+    private final Cache<String, VerifiedCredential> verified;
+
+    public VerifiedCredentialCache(MeterRegistry meterRegistry,
+                                   @Value("${auth.credential-cache.enabled:false}") boolean enabled,
+                                   @Value("${auth.credential-cache.ttl-ms:60000}") long ttlMs,
+                                   @Value("${auth.credential-cache.max-size:1000}") long maxSize) {
+        this.enabled = enabled;
+        byte[] keyBytes = new byte[32];
+        new SecureRandom().nextBytes(keyBytes);
+        this.macKey = new SecretKeySpec(keyBytes, HMAC_ALGORITHM);
+        this.verified = Caffeine.newBuilder()
+                .maximumSize(maxSize)
+                .expireAfterWrite(Duration.ofMillis(ttlMs))
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, verified, "auth.credentials");
+    }
+
+    public boolean isVerified(String email, String rawPassword, String encodedPassword) {
+        if (!enabled || email == null || rawPassword == null || encodedPassword == null) {
+            return false;
+        }
+        VerifiedCredential credential = verified.getIfPresent(normalize(email));
+        return credential != null
+                && MessageDigest.isEqual(credential.passwordMac(), mac(rawPassword))
+                && MessageDigest.isEqual(credential.hashFingerprint(), fingerprint(encodedPassword));
+    }
+
+    public void markVerified(String email, String rawPassword, String encodedPassword) {
+        if (!enabled || email == null || rawPassword == null || encodedPassword == null) {
+            return;
+        }
+        verified.put(normalize(email), new VerifiedCredential(mac(rawPassword), fingerprint(encodedPassword)));
+    }
+
+    public void invalidate(String email) {
+        if (email != null) {
+            verified.invalidate(normalize(email));
+        }
+    }
+
+    private static String normalize(String email) {
+        return email.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private byte[] mac(String rawPassword) {
+        try {
+            Mac mac = Mac.getInstance(HMAC_ALGORITHM);
+            mac.init(macKey);
+            return mac.doFinal(rawPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static byte[] fingerprint(String encodedPassword) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(encodedPassword.getBytes(StandardCharsets.UTF_8));
+        } catch (GeneralSecurityException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private record VerifiedCredential(byte[] passwordMac, byte[] hashFingerprint) {}
+}
@@ -2,20 +2,21 @@ package com.gtu.auth_service.presentation.exception;
 
 import com.gtu.auth_service.application.dto.ErrorResponseDTO;
 import com.gtu.auth_service.domain.exception.GeneralException;
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+import com.gtu.auth_service.infrastructure.logs.LogEvent;
 import com.gtu.auth_service.infrastructure.logs.LogPublisher;
 
 import feign.FeignException;
+import feign.RetryableException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ControllerAdvice;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 
-import java.time.Instant;
-import java.util.Map;
-
 @ControllerAdvice
 public class GlobalExceptionHandler {
 
@@ -36,11 +37,8 @@ public class GlobalExceptionHandler {
         String message = ex.getMessage().toLowerCase();
         if (!(message.contains("user") || message.contains("role") || message.contains("not found") || 
               message.contains("invalid password") || message.contains("pending") || message.contains("expired"))) {
-            logPublisher.sendLog(Instant.now().toString(), 
-            serviceName, 
-            "WARN", 
-            "Validation Error", 
-            Map.of(LOG_KEY_ERROR, ex.getMessage()));
+            logPublisher.publish(LogEvent.of(serviceName, "WARN", "Validation Error")
+                    .detail(LOG_KEY_ERROR, ex.getMessage()));
         }
 
         ErrorResponseDTO error = new ErrorResponseDTO(ex.getMessage(), HttpStatus.UNAUTHORIZED.value(), "Unauthorized");
@@ -54,11 +52,8 @@ public class GlobalExceptionHandler {
             severity = "CRITICAL";
         }
 
-        logPublisher.sendLog(Instant.now().toString(), 
-                            serviceName, 
-                            severity, 
-                            "Unexpected error occurred",
-                            Map.of(LOG_KEY_ERROR, ex.getMessage()));
+        logPublisher.publish(LogEvent.of(serviceName, severity, "Unexpected error occurred")
+                .detail(LOG_KEY_ERROR, ex.getMessage()));
 
         ErrorResponseDTO error = new ErrorResponseDTO("An unexpected error occurred" , HttpStatus.INTERNAL_SERVER_ERROR.value(), "Internal Server Error");
         return new ResponseEntity<>(error, HttpStatus.INTERNAL_SERVER_ERROR);
@@ -71,15 +66,26 @@ public class GlobalExceptionHandler {
             status = HttpStatus.INTERNAL_SERVER_ERROR;
         }
 
-        logPublisher.sendLog(Instant.now().toString(), 
-                            serviceName, "ERROR", 
-                            "External service communication failed", 
-                            Map.of("status", status.toString(), LOG_KEY_ERROR, ex.getMessage()));
+        logPublisher.publish(LogEvent.of(serviceName, "ERROR", "External service communication failed")
+                .detail("status", status.toString())
+                .detail(LOG_KEY_ERROR, ex.getMessage()));
 
         ErrorResponseDTO error = new ErrorResponseDTO(ex.getMessage(), status.value(), status.getReasonPhrase());
         return new ResponseEntity<>(error, status);
     }
 
+    @ExceptionHandler(RetryableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleFeignTimeout(RetryableException ex) {
+        logPublisher.publish(LogEvent.of(serviceName, "ERROR", "External service did not respond")
+                .detail(LOG_KEY_ERROR, ex.getMessage()));
+
+        ErrorResponseDTO error = new ErrorResponseDTO("External service did not respond, please retry later",
+                HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(error);
+    }
+
     @ExceptionHandler(FeignException.NotFound.class)
     public ResponseEntity<ErrorResponseDTO> handleFeignNotFound(FeignException.NotFound ex) {
         ErrorResponseDTO error = new ErrorResponseDTO("User not found in remote service", HttpStatus.NOT_FOUND.value(), "Not Found");
@@ -96,4 +102,12 @@ public class GlobalExceptionHandler {
         return new ResponseEntity<>(response, HttpStatus.valueOf(ex.getStatusCode()));
     }
 
+    @ExceptionHandler(ServiceUnavailableException.class)
+    public ResponseEntity<ErrorResponseDTO> handleServiceUnavailable(ServiceUnavailableException ex) {
+        ErrorResponseDTO response = new ErrorResponseDTO(ex.getMessage(), HttpStatus.SERVICE_UNAVAILABLE.value(), "Service Unavailable");
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(ex.getRetryAfterSeconds()))
+                .body(response);
+    }
+
 }
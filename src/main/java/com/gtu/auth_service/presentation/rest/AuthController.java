@@ -1,15 +1,31 @@
 package com.gtu.auth_service.presentation.rest;
 
+import com.gtu.auth_service.application.dto.IntrospectRequestDTO;
+import com.gtu.auth_service.application.dto.IntrospectionResponseDTO;
+import com.gtu.auth_service.application.dto.JwkDTO;
+import com.gtu.auth_service.application.dto.JwkSetDTO;
 import com.gtu.auth_service.application.dto.LoginRequestDTO;
 import com.gtu.auth_service.application.dto.LoginResponseDTO;
+import com.gtu.auth_service.application.dto.RefreshTokenRequestDTO;
 import com.gtu.auth_service.application.dto.RegisterRequestDTO;
 import com.gtu.auth_service.application.dto.ResetPasswordDTO;
 import com.gtu.auth_service.application.dto.ResetPasswordRequestDTO;
 import com.gtu.auth_service.application.usecase.AuthUseCase;
 import com.gtu.auth_service.application.dto.ResponseDTO;
 import jakarta.validation.Valid;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 @RestController
 @RequestMapping("/")
@@ -34,6 +50,12 @@ public class AuthController {
         return ResponseEntity.status(200).body(new ResponseDTO<>("Passenger login successful", response, 200));
     }
 
+    @PostMapping("/refresh")
+    public ResponseEntity<ResponseDTO<LoginResponseDTO>> refresh(@RequestBody RefreshTokenRequestDTO request) {
+        LoginResponseDTO response = authUseCase.refresh(request.getRefreshToken());
+        return ResponseEntity.ok(new ResponseDTO<>("Token refresh successful", response, 200));
+    }
+
     @PostMapping("/reset-password-request")
     public ResponseEntity<ResponseDTO<Void>> resetPasswordRequest(@RequestBody ResetPasswordRequestDTO request) {
         authUseCase.resetPasswordRequest(request.getEmail());
@@ -52,4 +74,31 @@ public class AuthController {
         LoginResponseDTO response = authUseCase.registerPassenger(request);
         return ResponseEntity.status(201).body(new ResponseDTO<>("Registration successful", response, 201));
     }
+
+    @PostMapping("/introspect")
+    public ResponseEntity<ResponseDTO<IntrospectionResponseDTO>> introspect(@RequestBody IntrospectRequestDTO request) {
+        IntrospectionResponseDTO response = authUseCase.introspect(request.getToken());
+        return ResponseEntity.ok(new ResponseDTO<>("Token introspection successful", response, 200));
+    }
+
+    @GetMapping("/.well-known/jwks.json")
+    public ResponseEntity<JwkSetDTO> jwks(WebRequest request) {
+        JwkSetDTO jwkSet = authUseCase.getJwkSet();
+        String etag = jwksETag(jwkSet);
+        CacheControl cacheControl = CacheControl.maxAge(5, TimeUnit.MINUTES).cachePublic();
+        if (request.checkNotModified(etag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(cacheControl).build();
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(cacheControl).body(jwkSet);
+    }
+
+    private static String jwksETag(JwkSetDTO jwkSet) {
+        String kids = jwkSet.keys().stream().map(JwkDTO::kid).sorted().collect(Collectors.joining(","));
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(kids.getBytes(StandardCharsets.UTF_8));
+            return "\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+CREATE TABLE IF NOT EXISTS reset_tokens (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    expiry_date TIMESTAMP(6) NOT NULL,
+    used BOOLEAN NOT NULL DEFAULT FALSE,
+    account_id BIGINT,
+    account_type VARCHAR(16),
+    CONSTRAINT uk_reset_tokens_token UNIQUE (token)
+);
+
+CREATE TABLE IF NOT EXISTS refresh_tokens (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    token_hash VARCHAR(43) NOT NULL,
+    family_id VARCHAR(36) NOT NULL,
+    user_id BIGINT,
+    email VARCHAR(255) NOT NULL,
+    name VARCHAR(255),
+    role VARCHAR(16) NOT NULL,
+    expiry_date TIMESTAMP(6) NOT NULL,
+    used BOOLEAN NOT NULL DEFAULT FALSE,
+    revoked BOOLEAN NOT NULL DEFAULT FALSE
+);
+
+CREATE UNIQUE INDEX IF NOT EXISTS idx_refresh_tokens_token_hash ON refresh_tokens (token_hash);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_family_id ON refresh_tokens (family_id);
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_expiry_date ON refresh_tokens (expiry_date);
+
+CREATE TABLE IF NOT EXISTS outbox_messages (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    exchange VARCHAR(255) NOT NULL,
+    routing_key VARCHAR(255) NOT NULL,
+    payload BLOB NOT NULL,
+    content_type VARCHAR(64) NOT NULL,
+    status VARCHAR(16) NOT NULL,
+    attempts INT NOT NULL DEFAULT 0,
+    next_attempt_at TIMESTAMP(6) NOT NULL,
+    created_at TIMESTAMP(6) NOT NULL,
+    last_error VARCHAR(512)
+);
+
+CREATE INDEX IF NOT EXISTS idx_outbox_messages_status_next_attempt ON outbox_messages (status, next_attempt_at);
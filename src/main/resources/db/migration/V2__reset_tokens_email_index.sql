@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_reset_tokens_email_used ON reset_tokens (email, used);
@@ -0,0 +1 @@
+CREATE INDEX IF NOT EXISTS idx_reset_tokens_expiry_date ON reset_tokens (expiry_date);
@@ -0,0 +1,13 @@
+CREATE TABLE IF NOT EXISTS known_accounts (
+    id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    email VARCHAR(255) NOT NULL,
+    account_type VARCHAR(16) NOT NULL,
+    account_id BIGINT NOT NULL,
+    name VARCHAR(255),
+    role VARCHAR(32),
+    password_hash VARCHAR(255),
+    captured_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_known_accounts_email_type UNIQUE (email, account_type)
+);
+
+CREATE INDEX IF NOT EXISTS idx_known_accounts_captured_at ON known_accounts (captured_at);
@@ -0,0 +1,2 @@
+ALTER TABLE reset_tokens ADD COLUMN IF NOT EXISTS account_id BIGINT;
+ALTER TABLE reset_tokens ADD COLUMN IF NOT EXISTS account_type VARCHAR(16);
@@ -0,0 +1,3 @@
+UPDATE refresh_tokens SET email = LOWER(TRIM(email)) WHERE email <> LOWER(TRIM(email));
+
+CREATE INDEX IF NOT EXISTS idx_refresh_tokens_email ON refresh_tokens (email);
@@ -11,7 +11,7 @@ import org.springframework.test.context.TestPropertySource;
     "spring.datasource.password=",
     "reset.links.base=http://localhost:8080/reset-password",
 })
-@TestPropertySource(properties = "JWT_SECRET=test-secret")
+@TestPropertySource(properties = "JWT_SECRET=dGVzdFNlY3JldEtleUZvckpXVHRlc3RTZWNyZXRLZXlGb3JKV1Q=")
 class AuthServiceApplicationTests {
     @Test
     void contextLoads() {
@@ -2,22 +2,45 @@ package com.gtu.auth_service.application.service;
 
 import com.gtu.auth_service.application.dto.LoginRequestDTO;
 import com.gtu.auth_service.application.dto.RegisterRequestDTO;
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+import com.gtu.auth_service.domain.model.AccountType;
 import com.gtu.auth_service.domain.model.AuthUser;
 import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.infrastructure.client.AccountResolver;
+import com.gtu.auth_service.infrastructure.client.LastKnownAccountStore;
 import com.gtu.auth_service.infrastructure.client.PassengerClient;
 import com.gtu.auth_service.infrastructure.client.UserClient;
+import com.gtu.auth_service.infrastructure.client.UserLookupCache;
 import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
 import com.gtu.auth_service.infrastructure.logs.LogPublisher;
 
+import feign.FeignException;
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 class AuthServiceImplTest {
@@ -30,12 +53,20 @@ class AuthServiceImplTest {
     @Mock
     private LogPublisher logPublisher;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
+
+    private LastKnownAccountStore lastKnownAccounts;
+
     private AuthServiceImpl authService;
 
     @BeforeEach
     void setUp() {
         MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        lastKnownAccounts = LastKnownAccountStore.inMemory(meterRegistry, 3600000);
+        UserLookupCache userLookupCache = new UserLookupCache(userClient, passengerClient, meterRegistry, lastKnownAccounts, 60000, 30000, 100);
+        authService = new AuthServiceImpl(new AccountResolver(userLookupCache, 2, 5000), passengerClient, logPublisher,
+                lastKnownAccounts);
     }
 
     @Test
@@ -62,6 +93,109 @@ class AuthServiceImplTest {
         assertNull(result);
     }
 
+    @Test
+    void findUserByEmail_WhenUsersServiceIsUnavailable_ShouldFailFast() {
+        when(userClient.getUserByEmail("jhon.doe@example.com"))
+                .thenThrow(new ServiceUnavailableException("userClient is temporarily unavailable, please retry later", 10));
+
+        assertThrows(ServiceUnavailableException.class, () -> authService.findUserByEmail("jhon.doe@example.com"));
+    }
+
+    @Test
+    void findUserByEmail_WhenUsersServiceTimesOut_AndNoAccountIsKnown_ShouldPropagate() {
+        when(userClient.getUserByEmail("jhon.doe@example.com")).thenThrow(new RetryableException(-1, "Read timed out",
+                Request.HttpMethod.GET, (Long) null,
+                Request.create(Request.HttpMethod.GET, "/internal/users", Collections.emptyMap(), null, StandardCharsets.UTF_8, null)));
+
+        assertThrows(RetryableException.class, () -> authService.findUserByEmail("jhon.doe@example.com"));
+    }
+
+    @Test
+    void findUserByEmail_WhenUsersServiceIsUnavailable_ShouldServeLastKnownAccount() {
+        lastKnownAccounts.remember(AccountType.USER, "jhon.doe@example.com",
+                new UserServiceResponse(1L, "John Doe", "jhon.doe@example.com", "encodedPass", "DRIVER"));
+        when(userClient.getUserByEmail("jhon.doe@example.com"))
+                .thenThrow(new ServiceUnavailableException("userClient is temporarily unavailable, please retry later", 10));
+
+        AuthUser result = authService.findUserByEmail("jhon.doe@example.com");
+
+        assertEquals(1L, result.id());
+        assertEquals("encodedPass", result.password());
+        assertEquals(Role.DRIVER, result.role());
+        assertEquals(1.0, meterRegistry.get("auth.lookups.stale-served").tag("type", "user").counter().count());
+    }
+
+    @Test
+    void findUserByEmail_WhenUsersServiceAnswersNotFound_ShouldNotServeLastKnownAccount() {
+        lastKnownAccounts.remember(AccountType.USER, "jhon.doe@example.com",
+                new UserServiceResponse(1L, "John Doe", "jhon.doe@example.com", "encodedPass", "DRIVER"));
+        when(userClient.getUserByEmail("jhon.doe@example.com")).thenThrow(new FeignException.NotFound("Not found",
+                Request.create(Request.HttpMethod.GET, "/internal/users", Collections.emptyMap(), null, StandardCharsets.UTF_8, null),
+                null, null));
+
+        assertNull(authService.findUserByEmail("jhon.doe@example.com"));
+        assertEquals(0.0, meterRegistry.get("auth.lookups.stale-served").tag("type", "user").counter().count());
+    }
+
+    @Test
+    void findUserByEmail_WhenNotFoundIsFollowedByOutage_ShouldNotServeLastKnownAccount() {
+        lastKnownAccounts.remember(AccountType.USER, "jhon.doe@example.com",
+                new UserServiceResponse(1L, "John Doe", "jhon.doe@example.com", "encodedPass", "DRIVER"));
+        when(userClient.getUserByEmail("jhon.doe@example.com"))
+                .thenThrow(new FeignException.NotFound("Not found",
+                        Request.create(Request.HttpMethod.GET, "/internal/users", Collections.emptyMap(), null, StandardCharsets.UTF_8, null),
+                        null, null))
+                .thenThrow(new ServiceUnavailableException("userClient is temporarily unavailable, please retry later", 10));
+
+        assertNull(authService.findUserByEmail("jhon.doe@example.com"));
+        assertThrows(ServiceUnavailableException.class, () -> authService.findUserByEmail("jhon.doe@example.com"));
+        assertEquals(0.0, meterRegistry.get("auth.lookups.stale-served").tag("type", "user").counter().count());
+    }
+
+    @Test
+    void findPassengerByEmail_WhenUsersServiceIsUnavailable_ShouldServeLastKnownAccount() {
+        lastKnownAccounts.remember(AccountType.PASSENGER, "jane@example.com",
+                new UserServiceResponse(2L, "Jane Doe", "jane@example.com", "encodedPass", null));
+        when(passengerClient.getPassengerByEmail("jane@example.com"))
+                .thenThrow(new ServiceUnavailableException("passengerClient is temporarily unavailable, please retry later", 10));
+
+        AuthUser result = authService.findPassengerByEmail("jane@example.com");
+
+        assertEquals(2L, result.id());
+        assertEquals(Role.PASSENGER, result.role());
+    }
+
+    @Test
+    void findUserByEmail_WhenLookedUpConcurrently_ShouldShareOneRemoteCall() throws Exception {
+        int callers = 12;
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userClient.getUserByEmail("jhon.doe@example.com")).thenAnswer(invocation -> {
+            entered.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return new UserServiceResponse(1L, "John Doe", "jhon.doe@example.com", "encodedPass", "DRIVER");
+        });
+        ExecutorService executor = Executors.newFixedThreadPool(callers);
+        try {
+            List<Future<AuthUser>> results = new ArrayList<>();
+            for (int i = 0; i < callers; i++) {
+                results.add(executor.submit(() -> authService.findUserByEmail("jhon.doe@example.com")));
+            }
+            entered.await(5, TimeUnit.SECONDS);
+            Thread.sleep(50);
+            release.countDown();
+
+            for (Future<AuthUser> result : results) {
+                assertEquals(1L, result.get(5, TimeUnit.SECONDS).id());
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        verify(userClient, times(1)).getUserByEmail(anyString());
+        verify(logPublisher, times(callers)).publish(any());
+    }
+
     @Test
     void mapToRole_WhenRoleIsSuperAdmin_ShouldReturnSuperAdmin() {
         assertEquals(Role.SUPERADMIN, authService.mapToRole("SUPERADMIN"));
@@ -144,4 +278,26 @@ class AuthServiceImplTest {
 
         assertEquals("Failed to register passenger", exception.getMessage());
     }
-}
\ No newline at end of file
+
+    @Test
+    void findUserByEmail_ShouldServeRepeatedLookupsFromCache() {
+        UserServiceResponse userResponse = new UserServiceResponse(1L, "John Doe", "john@example.com", "encodedPass", "DRIVER");
+        when(userClient.getUserByEmail("john@example.com")).thenReturn(userResponse);
+
+        authService.findUserByEmail("john@example.com");
+        AuthUser result = authService.findUserByEmail(" John@Example.com");
+
+        assertEquals(1L, result.id());
+        verify(userClient, times(1)).getUserByEmail("john@example.com");
+    }
+
+    @Test
+    void findPassengerByEmail_ShouldNotCacheMissingPassenger() {
+        when(passengerClient.getPassengerByEmail("new@example.com")).thenReturn(null);
+
+        authService.findPassengerByEmail("new@example.com");
+        authService.findPassengerByEmail("new@example.com");
+
+        verify(passengerClient, times(2)).getPassengerByEmail("new@example.com");
+    }
+}
@@ -0,0 +1,134 @@
+package com.gtu.auth_service.application.service;
+
+import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.RefreshToken;
+import com.gtu.auth_service.domain.model.RefreshedSession;
+import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.domain.repository.RefreshTokenRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenServiceImplTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenServiceImpl refreshTokenService;
+
+    private final AuthUser user = new AuthUser(1L, "John Doe", "john.doe@example.com", "encodedPass", Role.DRIVER);
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    private static String hash(String token) throws Exception {
+        byte[] digest = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(digest);
+    }
+
+    private RefreshToken stored(String token, boolean used, LocalDateTime expiryDate) throws Exception {
+        return new RefreshToken(5L, hash(token), "family-1", 1L, "john.doe@example.com", "John Doe",
+                Role.DRIVER, expiryDate, used, false);
+    }
+
+    @Test
+    void issue_ShouldStoreOnlyTheHash_WithUserClaims() throws Exception {
+        String token = refreshTokenService.issue(user);
+
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        RefreshToken saved = captor.getValue();
+        assertEquals(hash(token), saved.getTokenHash());
+        assertNotEquals(token, saved.getTokenHash());
+        assertEquals(1L, saved.getUserId());
+        assertEquals(Role.DRIVER, saved.getRole());
+        assertTrue(saved.getExpiryDate().isAfter(LocalDateTime.now()));
+    }
+
+    @Test
+    void rotate_ShouldIssueNewTokenInSameFamily_WhenTokenIsValid() throws Exception {
+        RefreshToken current = stored("old-refresh", false, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHash(hash("old-refresh"))).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.markUsed(5L)).thenReturn(true);
+
+        RefreshedSession session = refreshTokenService.rotate("old-refresh");
+
+        assertEquals("john.doe@example.com", session.user().email());
+        assertNull(session.user().password());
+        assertNotEquals("old-refresh", session.refreshToken());
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertEquals("family-1", captor.getValue().getFamilyId());
+        assertEquals(hash(session.refreshToken()), captor.getValue().getTokenHash());
+    }
+
+    @Test
+    void rotate_ShouldRevokeFamily_WhenTokenIsReused() throws Exception {
+        RefreshToken current = stored("old-refresh", true, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHash(hash("old-refresh"))).thenReturn(Optional.of(current));
+
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("old-refresh"));
+
+        verify(refreshTokenRepository).revokeFamily("family-1");
+        verify(refreshTokenRepository, never()).save(any());
+    }
+
+    @Test
+    void rotate_ShouldRevokeFamily_WhenConcurrentRotationWins() throws Exception {
+        RefreshToken current = stored("old-refresh", false, LocalDateTime.now().plusDays(1));
+        when(refreshTokenRepository.findByTokenHash(hash("old-refresh"))).thenReturn(Optional.of(current));
+        when(refreshTokenRepository.markUsed(5L)).thenReturn(false);
+
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("old-refresh"));
+
+        verify(refreshTokenRepository).revokeFamily("family-1");
+    }
+
+    @Test
+    void rotate_ShouldThrow_WhenTokenHasExpired() throws Exception {
+        RefreshToken current = stored("old-refresh", false, LocalDateTime.now().minusMinutes(1));
+        when(refreshTokenRepository.findByTokenHash(hash("old-refresh"))).thenReturn(Optional.of(current));
+
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("old-refresh"));
+
+        verify(refreshTokenRepository, never()).markUsed(any());
+        verify(refreshTokenRepository, never()).revokeFamily(anyString());
+    }
+
+    @Test
+    void rotate_ShouldThrow_WhenTokenIsUnknown() {
+        when(refreshTokenRepository.findByTokenHash(anyString())).thenReturn(Optional.empty());
+
+        assertThrows(IllegalArgumentException.class, () -> refreshTokenService.rotate("unknown"));
+    }
+
+    @Test
+    void revokeAll_ShouldRevokeEveryFamily_ForTheNormalizedEmail() {
+        refreshTokenService.revokeAll(" John.Doe@Example.com");
+
+        verify(refreshTokenRepository).revokeAllByEmail("john.doe@example.com");
+    }
+}
@@ -2,33 +2,50 @@ package com.gtu.auth_service.application.service;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.gtu.auth_service.domain.exception.GeneralException;
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.OutboxMessage;
 import com.gtu.auth_service.domain.model.ResetToken;
 import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.domain.repository.OutboxRepository;
 import com.gtu.auth_service.domain.repository.ResetTokenRepository;
+import com.gtu.auth_service.domain.service.RefreshTokenService;
+import com.gtu.auth_service.infrastructure.client.AccountResolver;
+import com.gtu.auth_service.infrastructure.client.LastKnownAccountStore;
 import com.gtu.auth_service.infrastructure.client.PassengerClient;
 import com.gtu.auth_service.infrastructure.client.UserClient;
+import com.gtu.auth_service.infrastructure.client.UserLookupCache;
 import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
 import com.gtu.auth_service.infrastructure.logs.LogPublisher;
+import com.gtu.auth_service.infrastructure.messaging.EventMessageConverter;
+import com.gtu.auth_service.infrastructure.messaging.WireFormat;
 import com.gtu.auth_service.infrastructure.messaging.event.ResetPasswordEvent;
+import com.gtu.auth_service.infrastructure.security.ResetTokenSigner;
+import com.gtu.auth_service.infrastructure.security.VerifiedCredentialCache;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.amqp.rabbit.core.RabbitTemplate;
+import org.springframework.transaction.support.TransactionOperations;
 
 import java.time.LocalDateTime;
+import java.util.Base64;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
-import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class ResetPasswordServiceImplTest {
 
+    private static final String SIGNING_SECRET = Base64.getEncoder().encodeToString("resetTokenSigningSecretForTests!".getBytes());
+
     @Mock
     private UserClient userClient;
 
@@ -39,49 +56,66 @@ class ResetPasswordServiceImplTest {
     private ResetTokenRepository resetTokenRepository;
 
     @Mock
-    private RabbitTemplate rabbitTemplate;
+    private OutboxRepository outboxRepository;
 
-    @Mock
-    private ObjectMapper objectMapper;
+    private final EventMessageConverter messageConverter = new EventMessageConverter(new ObjectMapper(), WireFormat.JSON);
 
     @Mock
     private LogPublisher logPublisher;
 
+    @Mock
+    private VerifiedCredentialCache credentialCache;
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    private UserLookupCache userLookupCache;
+
     @InjectMocks
     private ResetPasswordServiceImpl resetPasswordService;
 
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
-        resetPasswordService = new ResetPasswordServiceImpl(
+        userLookupCache = spy(new UserLookupCache(userClient, passengerClient, new SimpleMeterRegistry(),
+                LastKnownAccountStore.inMemory(new SimpleMeterRegistry(), 3600000), 60000, 30000, 100));
+        resetPasswordService = newService(new ResetTokenSigner("table", "", 900000));
+    }
+
+    private ResetPasswordServiceImpl newService(ResetTokenSigner signer) throws Exception {
+        ResetPasswordServiceImpl service = new ResetPasswordServiceImpl(
                 userClient,
                 passengerClient,
                 resetTokenRepository,
-                rabbitTemplate,
-                objectMapper,
-                logPublisher
+                outboxRepository,
+                TransactionOperations.withoutTransaction(),
+                messageConverter,
+                logPublisher,
+                credentialCache,
+                refreshTokenService,
+                userLookupCache,
+                new AccountResolver(userLookupCache, 2, 5000),
+                signer,
+                60000
         );
-        setField("resetLinkBase", "http://reset/base"); 
-    }
-
-    private void setField(String name, String value) throws Exception {
-        var field = ResetPasswordServiceImpl.class.getDeclaredField(name);
+        var field = ResetPasswordServiceImpl.class.getDeclaredField("resetLinkBase");
         field.setAccessible(true);
-        field.set(resetPasswordService, value);
+        field.set(service, "http://reset/base");
+        return service;
     }
 
     @Test
     void requestPasswordReset_shouldSucceedForUser() throws Exception {
         UserServiceResponse user = new UserServiceResponse(1L, "user@gtu.com", null, null, null);
         when(userClient.getUserByEmail("user@gtu.com")).thenReturn(user);
-        when(resetTokenRepository.findByEmailAndUsedFalse("user@gtu.com")).thenReturn(Optional.empty());
-        when(objectMapper.writeValueAsString(any(ResetPasswordEvent.class))).thenReturn("{\"test\":\"json\"}");
+        when(resetTokenRepository.existsPendingByEmail("user@gtu.com")).thenReturn(false);
 
         resetPasswordService.requestPasswordReset("user@gtu.com");
 
         verify(resetTokenRepository).save(any(ResetToken.class));
-        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), anyString());
-        verify(logPublisher).sendLog(anyString(), eq("auth-service"), eq("INFO"),eq("Reset email event sent successfully"),anyMap());
+        verify(outboxRepository).save(any(OutboxMessage.class));
+        verify(logPublisher).publish(argThat(event -> "INFO".equals(event.level())
+                && "Reset email event queued".equals(event.message())));
     }
 
     @Test
@@ -90,21 +124,23 @@ class ResetPasswordServiceImplTest {
         UserServiceResponse passenger = new UserServiceResponse(2L, "passenger@gtu.com", null, null, null);
         when(userClient.getUserByEmail("passenger@gtu.com")).thenReturn(user);
         when(passengerClient.getPassengerByEmail("passenger@gtu.com")).thenReturn(passenger);
-        when(resetTokenRepository.findByEmailAndUsedFalse("passenger@gtu.com")).thenReturn(Optional.empty());
-        when(objectMapper.writeValueAsString(any(ResetPasswordEvent.class))).thenReturn("{\"test\":\"json\"}");
+        when(resetTokenRepository.existsPendingByEmail("passenger@gtu.com")).thenReturn(false);
 
         resetPasswordService.requestPasswordReset("passenger@gtu.com");
 
         verify(passengerClient).getPassengerByEmail("passenger@gtu.com");
-        verify(resetTokenRepository).save(any(ResetToken.class));
-        verify(rabbitTemplate).convertAndSend(anyString(), anyString(), anyString());
+        ArgumentCaptor<ResetToken> saved = ArgumentCaptor.forClass(ResetToken.class);
+        verify(resetTokenRepository).save(saved.capture());
+        assertEquals(2L, saved.getValue().getAccountId());
+        assertEquals(AccountType.PASSENGER, saved.getValue().getAccountType());
+        verify(outboxRepository).save(any(OutboxMessage.class));
     }
 
     @Test
     void requestPasswordReset_shouldThrowGeneralExceptionWhenTokenPending() {
         UserServiceResponse user = new UserServiceResponse(1L, "user@gtu.com", null, null, null);
         when(userClient.getUserByEmail("user@gtu.com")).thenReturn(user);
-        when(resetTokenRepository.findByEmailAndUsedFalse("user@gtu.com")).thenReturn(Optional.of(new ResetToken()));
+        when(resetTokenRepository.existsPendingByEmail("user@gtu.com")).thenReturn(true);
 
         GeneralException exception = assertThrows(GeneralException.class, () ->
             resetPasswordService.requestPasswordReset("user@gtu.com"));
@@ -124,12 +160,18 @@ class ResetPasswordServiceImplTest {
 
     @Test
     void sendResetEmailEvent_shouldSucceedWhenValid() throws Exception {
-        when(objectMapper.writeValueAsString(any(ResetPasswordEvent.class))).thenReturn("{\"test\":\"json\"}");
-
         resetPasswordService.sendResetEmailEvent("user@gtu.com", Role.ADMIN, "http://reset/base?token=test");
 
-        verify(rabbitTemplate).convertAndSend("reset-password.exchange", "reset-password.routingkey", "{\"test\":\"json\"}");
-        verify(logPublisher).sendLog(anyString(), eq("auth-service"), eq("INFO"), anyString(), anyMap());
+        ArgumentCaptor<OutboxMessage> queued = ArgumentCaptor.forClass(OutboxMessage.class);
+        verify(outboxRepository).save(queued.capture());
+        assertEquals("reset-password.exchange", queued.getValue().getExchange());
+        assertEquals("reset-password.routingkey", queued.getValue().getRoutingKey());
+        assertEquals("application/json", queued.getValue().getContentType());
+        ResetPasswordEvent sent = new ObjectMapper().readValue(queued.getValue().getPayload(), ResetPasswordEvent.class);
+        assertEquals("user@gtu.com", sent.getTo());
+        assertEquals(Role.ADMIN, sent.getRole());
+        assertEquals("http://reset/base?token=test", sent.getResetLink());
+        verify(logPublisher).publish(argThat(event -> "INFO".equals(event.level())));
     }
 
     @Test
@@ -139,14 +181,18 @@ class ResetPasswordServiceImplTest {
         token.setEmail("user@gtu.com");
         token.setExpiryDate(LocalDateTime.now().plusMinutes(30));
         token.setUsed(false);
-        when(resetTokenRepository.findByToken("valid-token")).thenReturn(Optional.of(token));
+        when(resetTokenRepository.claim(eq("valid-token"), any(LocalDateTime.class))).thenReturn(Optional.of(token));
         when(userClient.getUserByEmail("user@gtu.com")).thenReturn(new UserServiceResponse(1L, "user@gtu.com", null, null, null));
         doNothing().when(userClient).resetPassword(1L, "NewPass1");
 
         resetPasswordService.resetPassword("valid-token", "NewPass1");
 
         verify(userClient).resetPassword(1L, "NewPass1");
-        verify(resetTokenRepository).save(token);
+        verify(resetTokenRepository).claim(eq("valid-token"), any(LocalDateTime.class));
+        verify(resetTokenRepository, never()).findByToken(anyString());
+        verify(credentialCache).invalidate("user@gtu.com");
+        verify(userLookupCache).evict("user@gtu.com");
+        verify(refreshTokenService).revokeAll("user@gtu.com");
     }
 
     @Test
@@ -156,7 +202,7 @@ class ResetPasswordServiceImplTest {
         token.setEmail("passenger@gtu.com");
         token.setExpiryDate(LocalDateTime.now().plusMinutes(30));
         token.setUsed(false);
-        when(resetTokenRepository.findByToken("valid-token")).thenReturn(Optional.of(token));
+        when(resetTokenRepository.claim(eq("valid-token"), any(LocalDateTime.class))).thenReturn(Optional.of(token));
         when(userClient.getUserByEmail("passenger@gtu.com")).thenReturn(new UserServiceResponse(null, "passenger@gtu.com", null, null, null));
         when(passengerClient.getPassengerByEmail("passenger@gtu.com")).thenReturn(new UserServiceResponse(2L, "passenger@gtu.com", null, null, null));
         doNothing().when(passengerClient).resetPassword(2L, "NewPass1");
@@ -164,7 +210,21 @@ class ResetPasswordServiceImplTest {
         resetPasswordService.resetPassword("valid-token", "NewPass1");
 
         verify(passengerClient).resetPassword(2L, "NewPass1");
-        verify(resetTokenRepository).save(token);
+        verify(resetTokenRepository).claim(eq("valid-token"), any(LocalDateTime.class));
+    }
+
+    @Test
+    void resetPassword_shouldCallStoredAccountDirectly_WithoutLookups() throws Exception {
+        ResetToken token = new ResetToken(1L, "valid-token", "passenger@gtu.com", LocalDateTime.now().plusMinutes(30),
+                false, 2L, AccountType.PASSENGER);
+        when(resetTokenRepository.claim(eq("valid-token"), any(LocalDateTime.class))).thenReturn(Optional.of(token));
+
+        resetPasswordService.resetPassword("valid-token", "NewPass1");
+
+        verify(passengerClient).resetPassword(2L, "NewPass1");
+        verify(userClient, never()).getUserByEmail(anyString());
+        verify(passengerClient, never()).getPassengerByEmail(anyString());
+        verify(resetTokenRepository).claim(eq("valid-token"), any(LocalDateTime.class));
     }
 
     @Test
@@ -174,7 +234,7 @@ class ResetPasswordServiceImplTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
             resetPasswordService.resetPassword("invalid-token", "NewPass1"));
         assertEquals("Invalid or expired token", exception.getMessage());
-        verify(logPublisher).sendLog(anyString(), eq("auth-service"), eq("ERROR"), anyString(), anyMap());
+        verify(logPublisher).publish(argThat(event -> "ERROR".equals(event.level())));
     }
 
     @Test
@@ -188,47 +248,154 @@ class ResetPasswordServiceImplTest {
         IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
             resetPasswordService.resetPassword("expired-token", "NewPass1"));
         assertEquals("Token has expired or already used", exception.getMessage());
+        verifyNoInteractions(credentialCache);
     }
 
     @Test
-    void getUserIdByEmail_shouldReturnIdWhenFound() {
-        UserServiceResponse user = new UserServiceResponse(1L, "user@gtu.com", null, null, null);
-        when(userClient.getUserByEmail("user@gtu.com")).thenReturn(user);
+    void resetPassword_shouldReject_WhenConcurrentRequestClaimedTokenFirst() {
+        ResetToken token = new ResetToken(1L, "valid-token", "user@gtu.com", LocalDateTime.now().plusMinutes(30),
+                false, 1L, AccountType.USER);
+        when(resetTokenRepository.findByToken("valid-token")).thenReturn(Optional.of(token));
+        when(resetTokenRepository.claim(eq("valid-token"), any(LocalDateTime.class))).thenReturn(Optional.empty());
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            resetPasswordService.resetPassword("valid-token", "NewPass1"));
+        assertEquals("Token has expired or already used", exception.getMessage());
+        verify(userClient, never()).resetPassword(anyLong(), anyString());
+    }
+
+    @Test
+    void resetPassword_shouldReleaseToken_WhenRemoteResetFails() {
+        ResetToken token = new ResetToken(1L, "valid-token", "user@gtu.com", LocalDateTime.now().plusMinutes(30),
+                false, 1L, AccountType.USER);
+        when(resetTokenRepository.claim(eq("valid-token"), any(LocalDateTime.class))).thenReturn(Optional.of(token));
+        doThrow(new RuntimeException("Users service down")).when(userClient).resetPassword(1L, "NewPass1");
 
-        Long id = resetPasswordService.getUserIdByEmail("user@gtu.com");
+        assertThrows(RuntimeException.class, () -> resetPasswordService.resetPassword("valid-token", "NewPass1"));
 
-        assertEquals(1L, id);
-        verify(userClient).getUserByEmail("user@gtu.com");
+        verify(resetTokenRepository).release("valid-token");
+        verifyNoInteractions(credentialCache);
+        verifyNoInteractions(refreshTokenService);
     }
 
     @Test
-    void getUserIdByEmail_shouldReturnNullWhenNotFound() {
-        when(userClient.getUserByEmail("notfound@gtu.com")).thenThrow(new RuntimeException("Not found"));
+    void resetPassword_shouldComplete_WhenRefreshTokenRevocationFails() {
+        ResetToken token = new ResetToken(1L, "valid-token", "user@gtu.com", LocalDateTime.now().plusMinutes(30),
+                false, 1L, AccountType.USER);
+        when(resetTokenRepository.claim(eq("valid-token"), any(LocalDateTime.class))).thenReturn(Optional.of(token));
+        doThrow(new RuntimeException("Lock timeout")).when(refreshTokenService).revokeAll("user@gtu.com");
 
-        Long id = resetPasswordService.getUserIdByEmail("notfound@gtu.com");
+        resetPasswordService.resetPassword("valid-token", "NewPass1");
 
-        assertNull(id);
-        verify(userClient).getUserByEmail("notfound@gtu.com");
+        verify(userClient).resetPassword(1L, "NewPass1");
+        verify(resetTokenRepository, never()).release(anyString());
+        verify(logPublisher).publish(argThat(event -> "ERROR".equals(event.level())));
     }
 
     @Test
-    void getPassengerIdByEmail_shouldReturnIdWhenFound() {
-        UserServiceResponse passenger = new UserServiceResponse(2L, "passenger@gtu.com", null, null, null);
-        when(passengerClient.getPassengerByEmail("passenger@gtu.com")).thenReturn(passenger);
+    void requestPasswordReset_shouldReturnNotFound_WhenNoAccountMatches() {
+        when(userClient.getUserByEmail("ghost@gtu.com")).thenReturn(new UserServiceResponse());
+        when(passengerClient.getPassengerByEmail("ghost@gtu.com")).thenReturn(null);
+
+        GeneralException exception = assertThrows(GeneralException.class, () ->
+            resetPasswordService.requestPasswordReset("ghost@gtu.com"));
+        assertEquals(404, exception.getStatusCode());
+        verify(resetTokenRepository, never()).save(any(ResetToken.class));
+    }
 
-        Long id = resetPasswordService.getPassengerIdByEmail("passenger@gtu.com");
+    @Test
+    void requestPasswordReset_shouldUsePassenger_WhenUserLookupFails() throws Exception {
+        when(userClient.getUserByEmail("passenger@gtu.com")).thenThrow(new RuntimeException("Users service down"));
+        when(passengerClient.getPassengerByEmail("passenger@gtu.com")).thenReturn(new UserServiceResponse(2L, "passenger@gtu.com", null, null, null));
+        when(resetTokenRepository.existsPendingByEmail("passenger@gtu.com")).thenReturn(false);
 
-        assertEquals(2L, id);
-        verify(passengerClient).getPassengerByEmail("passenger@gtu.com");
+        resetPasswordService.requestPasswordReset("passenger@gtu.com");
+
+        ArgumentCaptor<ResetToken> saved = ArgumentCaptor.forClass(ResetToken.class);
+        verify(resetTokenRepository).save(saved.capture());
+        assertEquals(AccountType.PASSENGER, saved.getValue().getAccountType());
+    }
+
+    @Test
+    void requestPasswordReset_shouldReturnServerError_WhenBothLookupsFail() {
+        when(userClient.getUserByEmail("user@gtu.com")).thenThrow(new RuntimeException("Users service down"));
+        when(passengerClient.getPassengerByEmail("user@gtu.com")).thenThrow(new RuntimeException("Users service down"));
+
+        GeneralException exception = assertThrows(GeneralException.class, () ->
+            resetPasswordService.requestPasswordReset("user@gtu.com"));
+        assertEquals(500, exception.getStatusCode());
+        verify(logPublisher).publish(argThat(event -> "ERROR".equals(event.level())));
+    }
+
+    @Test
+    void requestPasswordReset_shouldIssueSignedToken_WithoutTouchingTokenTable() throws Exception {
+        ResetPasswordServiceImpl statelessService = newService(new ResetTokenSigner("stateless", SIGNING_SECRET, 900000));
+        when(userClient.getUserByEmail("user@gtu.com")).thenReturn(new UserServiceResponse(1L, "User", "user@gtu.com", "$2a$10$old", "ADMIN"));
+
+        statelessService.requestPasswordReset("user@gtu.com");
+
+        verify(outboxRepository).save(any(OutboxMessage.class));
+        verifyNoInteractions(resetTokenRepository);
+    }
+
+    @Test
+    void requestPasswordReset_shouldRejectRepeatedSignedRequest_WithinMinInterval() throws Exception {
+        ResetPasswordServiceImpl statelessService = newService(new ResetTokenSigner("stateless", SIGNING_SECRET, 900000));
+        when(userClient.getUserByEmail(anyString())).thenReturn(new UserServiceResponse(1L, "User", "user@gtu.com", "$2a$10$old", "ADMIN"));
+
+        statelessService.requestPasswordReset("user@gtu.com");
+        GeneralException exception = assertThrows(GeneralException.class, () ->
+            statelessService.requestPasswordReset(" User@gtu.com"));
+
+        assertEquals(409, exception.getStatusCode());
+        verify(outboxRepository, times(1)).save(any(OutboxMessage.class));
+    }
+
+    @Test
+    void requestPasswordReset_shouldAllowRetry_WhenSignedResetEmailFailsToQueue() throws Exception {
+        ResetPasswordServiceImpl statelessService = newService(new ResetTokenSigner("stateless", SIGNING_SECRET, 900000));
+        when(userClient.getUserByEmail("user@gtu.com")).thenReturn(new UserServiceResponse(1L, "User", "user@gtu.com", "$2a$10$old", "ADMIN"));
+        doThrow(new RuntimeException("Outbox down")).doNothing().when(outboxRepository).save(any(OutboxMessage.class));
+
+        assertThrows(RuntimeException.class, () -> statelessService.requestPasswordReset("user@gtu.com"));
+        statelessService.requestPasswordReset("user@gtu.com");
+
+        verify(outboxRepository, times(2)).save(any(OutboxMessage.class));
+    }
+
+    @Test
+    void resetPassword_shouldAcceptSignedToken_OnceAndRejectItAfterPasswordChange() throws Exception {
+        ResetTokenSigner signer = new ResetTokenSigner("stateless", SIGNING_SECRET, 900000);
+        ResetPasswordServiceImpl statelessService = newService(signer);
+        String token = signer.issue(AccountType.USER, 1L, "user@gtu.com", "$2a$10$old");
+        when(userClient.getUserByEmail("user@gtu.com"))
+                .thenReturn(new UserServiceResponse(1L, "User", "user@gtu.com", "$2a$10$old", "ADMIN"))
+                .thenReturn(new UserServiceResponse(1L, "User", "user@gtu.com", "$2a$10$new", "ADMIN"));
+
+        statelessService.resetPassword(token, "NewPass1");
+        ResetPasswordServiceImpl otherInstance = newService(new ResetTokenSigner("stateless", SIGNING_SECRET, 900000));
+
+        IllegalArgumentException exception = assertThrows(IllegalArgumentException.class, () ->
+            otherInstance.resetPassword(token, "OtherPass1"));
+        assertEquals("Token has expired or already used", exception.getMessage());
+        verify(userClient).resetPassword(1L, "NewPass1");
+        verify(userClient, never()).resetPassword(1L, "OtherPass1");
+        verify(credentialCache).invalidate("user@gtu.com");
+        verify(refreshTokenService).revokeAll("user@gtu.com");
+        verifyNoInteractions(resetTokenRepository);
     }
 
     @Test
-    void getPassengerIdByEmail_shouldReturnNullWhenNotFound() {
-        when(passengerClient.getPassengerByEmail("notfound@gtu.com")).thenThrow(new RuntimeException("Not found"));
+    void resetPassword_shouldReleaseSignedToken_WhenRemoteResetFails() throws Exception {
+        ResetTokenSigner signer = new ResetTokenSigner("stateless", SIGNING_SECRET, 900000);
+        ResetPasswordServiceImpl statelessService = newService(signer);
+        String token = signer.issue(AccountType.USER, 1L, "user@gtu.com", "$2a$10$old");
+        when(userClient.getUserByEmail("user@gtu.com")).thenReturn(new UserServiceResponse(1L, "User", "user@gtu.com", "$2a$10$old", "ADMIN"));
+        doThrow(new RuntimeException("Users service down")).doNothing().when(userClient).resetPassword(1L, "NewPass1");
 
-        Long id = resetPasswordService.getPassengerIdByEmail("notfound@gtu.com");
+        assertThrows(RuntimeException.class, () -> statelessService.resetPassword(token, "NewPass1"));
+        statelessService.resetPassword(token, "NewPass1");
 
-        assertNull(id);
-        verify(passengerClient).getPassengerByEmail("notfound@gtu.com");
+        verify(userClient, times(2)).resetPassword(1L, "NewPass1");
     }
-}
\ No newline at end of file
+}
@@ -1,21 +1,32 @@
 package com.gtu.auth_service.application.usecase;
 
+import com.gtu.auth_service.application.dto.IntrospectionResponseDTO;
 import com.gtu.auth_service.application.dto.LoginRequestDTO;
 import com.gtu.auth_service.application.dto.LoginResponseDTO;
 import com.gtu.auth_service.application.dto.RegisterRequestDTO;
 import com.gtu.auth_service.application.service.AuthServiceImpl;
 import com.gtu.auth_service.application.service.JwtServiceImpl;
 import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.RefreshedSession;
 import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.domain.model.TokenClaims;
+import com.gtu.auth_service.domain.service.RefreshTokenService;
 import com.gtu.auth_service.domain.service.ResetPasswordService;
 import com.gtu.auth_service.infrastructure.security.PasswordValidator;
+import com.gtu.auth_service.infrastructure.security.VerifiedCredentialCache;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
+import java.util.Optional;
+
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
@@ -32,6 +43,12 @@ class AuthUseCaseTest {
     @Mock
     private ResetPasswordService resetPasswordService;
 
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private VerifiedCredentialCache credentialCache;
+
     @InjectMocks
     private AuthUseCase authUseCase;
 
@@ -49,10 +66,12 @@ class AuthUseCaseTest {
         when(authService.findUserByEmail("john.doe@example.com")).thenReturn(user);
         when(passwordValidator.validate("password123", "encodedPass")).thenReturn(true);
         when(jwtService.generateToken(user)).thenReturn(token);
+        when(refreshTokenService.issue(user)).thenReturn("refresh-token");
 
         LoginResponseDTO response = authUseCase.login(request);
 
         assertEquals(token, response.accessToken());
+        assertEquals("refresh-token", response.refreshToken());
         assertEquals(1L, response.userId());
         assertEquals("John Doe", response.name());
         assertEquals("john.doe@example.com", response.email());
@@ -162,4 +181,78 @@ class AuthUseCaseTest {
 
         assertThrows(IllegalArgumentException.class, () -> authUseCase.loginPassenger(request));
     }
+
+    @Test
+    void introspect_ShouldReturnActiveResponse_WhenTokenIsValid() {
+        Instant expiresAt = Instant.parse("2030-01-01T00:00:00Z");
+        TokenClaims claims = new TokenClaims(1L, "john.doe@example.com", "John Doe", "DRIVER", expiresAt);
+        when(jwtService.verifyToken("valid-token")).thenReturn(Optional.of(claims));
+
+        IntrospectionResponseDTO response = authUseCase.introspect("valid-token");
+
+        assertTrue(response.active());
+        assertEquals(1L, response.userId());
+        assertEquals("DRIVER", response.role());
+        assertEquals(expiresAt.getEpochSecond(), response.exp());
+    }
+
+    @Test
+    void introspect_ShouldReturnInactiveResponse_WhenTokenIsInvalid() {
+        when(jwtService.verifyToken("bad-token")).thenReturn(Optional.empty());
+
+        IntrospectionResponseDTO response = authUseCase.introspect("bad-token");
+
+        assertFalse(response.active());
+        assertNull(response.userId());
+    }
+
+    @Test
+    void refresh_ShouldReturnNewAccessToken_WithoutLookingUpUser() {
+        AuthUser user = new AuthUser(1L, "John Doe", "john.doe@example.com", null, Role.DRIVER);
+        when(refreshTokenService.rotate("old-refresh")).thenReturn(new RefreshedSession(user, "new-refresh"));
+        when(jwtService.generateToken(user)).thenReturn("new-jwt");
+
+        LoginResponseDTO response = authUseCase.refresh("old-refresh");
+
+        assertEquals("new-jwt", response.accessToken());
+        assertEquals("new-refresh", response.refreshToken());
+        assertEquals("DRIVER", response.role());
+        verifyNoInteractions(authService, passwordValidator);
+    }
+
+    @Test
+    void refresh_ShouldPropagateException_WhenRefreshTokenIsRejected() {
+        when(refreshTokenService.rotate("used-refresh")).thenThrow(new IllegalArgumentException("Refresh token reuse detected"));
+
+        assertThrows(IllegalArgumentException.class, () -> authUseCase.refresh("used-refresh"));
+        verify(jwtService, never()).generateToken(any());
+    }
+
+    @Test
+    void login_ShouldSkipPasswordValidation_WhenCredentialsWereRecentlyVerified() {
+        LoginRequestDTO request = new LoginRequestDTO("kiosk@example.com", "password123");
+        AuthUser user = new AuthUser(3L, "Kiosk", "kiosk@example.com", "encodedPass", Role.DRIVER);
+
+        when(authService.findUserByEmail("kiosk@example.com")).thenReturn(user);
+        when(credentialCache.isVerified("kiosk@example.com", "password123", "encodedPass")).thenReturn(true);
+        when(jwtService.generateToken(user)).thenReturn("jwt");
+
+        LoginResponseDTO response = authUseCase.login(request);
+
+        assertEquals("jwt", response.accessToken());
+        verifyNoInteractions(passwordValidator);
+    }
+
+    @Test
+    void login_ShouldRememberCredentials_AfterSuccessfulValidation() {
+        LoginRequestDTO request = new LoginRequestDTO("kiosk@example.com", "password123");
+        AuthUser user = new AuthUser(3L, "Kiosk", "kiosk@example.com", "encodedPass", Role.DRIVER);
+
+        when(authService.findUserByEmail("kiosk@example.com")).thenReturn(user);
+        when(passwordValidator.validate("password123", "encodedPass")).thenReturn(true);
+
+        authUseCase.login(request);
+
+        verify(credentialCache).markVerified("kiosk@example.com", "password123", "encodedPass");
+    }
 }
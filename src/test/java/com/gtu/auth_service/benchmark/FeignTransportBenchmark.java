@@ -0,0 +1,121 @@
+package com.gtu.auth_service.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+
+import feign.Client;
+import feign.Feign;
+import feign.Param;
+import feign.RequestLine;
+import feign.Retryer;
+import feign.hc5.ApacheHttp5Client;
+
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the default URLConnection transport with a pooled Apache HttpClient 5 transport against
+ * a local stub of the users service. Run with sample-time mode to read p99 from the percentiles;
+ * with 16 callers the JDK keep-alive cache (5 idle connections per host) forces fresh handshakes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(1)
+public class FeignTransportBenchmark {
+
+    private static final byte[] USER_JSON = """
+            {"id":1,"name":"John Doe","email":"john.doe@example.com","password":"$2a$10$hash","role":"DRIVER"}"""
+            .getBytes(StandardCharsets.UTF_8);
+
+    @org.openjdk.jmh.annotations.Param({"urlconnection", "hc5-pooled"})
+    private String transport;
+
+    private HttpServer usersService;
+    private ExecutorService serverExecutor;
+    private CloseableHttpClient httpClient;
+    private UsersStub client;
+
+    interface UsersStub {
+        @RequestLine("GET /internal/users?email={email}")
+        String getUserByEmail(@Param("email") String email);
+    }
+
+    @Setup
+    public void setUp() throws IOException {
+        serverExecutor = Executors.newFixedThreadPool(32);
+        usersService = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 128);
+        usersService.createContext("/internal/users", exchange -> {
+            exchange.getRequestBody().readAllBytes();
+            exchange.getResponseHeaders().add("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, USER_JSON.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(USER_JSON);
+            }
+        });
+        usersService.setExecutor(serverExecutor);
+        usersService.start();
+
+        Client feignClient;
+        if ("hc5-pooled".equals(transport)) {
+            httpClient = HttpClients.custom()
+                    .setConnectionManager(PoolingHttpClientConnectionManagerBuilder.create()
+                            .setMaxConnTotal(64)
+                            .setMaxConnPerRoute(64)
+                            .build())
+                    .build();
+            feignClient = new ApacheHttp5Client(httpClient);
+        } else {
+            feignClient = new Client.Default(null, null);
+        }
+        client = Feign.builder()
+                .client(feignClient)
+                .retryer(Retryer.NEVER_RETRY)
+                .target(UsersStub.class, "http://localhost:" + usersService.getAddress().getPort());
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        if (httpClient != null) {
+            httpClient.close();
+        }
+        usersService.stop(0);
+        serverExecutor.shutdownNow();
+    }
+
+    @Benchmark
+    public String getUserByEmail() {
+        return client.getUserByEmail("john.doe@example.com");
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(FeignTransportBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,74 @@
+package com.gtu.auth_service.benchmark;
+
+import com.gtu.auth_service.application.service.JwtServiceImpl;
+import com.gtu.auth_service.domain.model.AuthUser;
+import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.infrastructure.security.HmacKeySource;
+import com.gtu.auth_service.infrastructure.security.JwtKeyRing;
+
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.io.Decoders;
+import io.jsonwebtoken.security.Keys;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.Base64;
+import java.util.Date;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class JwtTokenBenchmark {
+
+    private static final long EXPIRATION = 30L * 60000;
+
+    private String base64Key;
+    private AuthUser user;
+    private JwtServiceImpl jwtService;
+
+    @Setup
+    public void setUp() {
+        base64Key = Base64.getEncoder().encodeToString("testSecretKeyForJWTtestSecretKeyForJWT".getBytes());
+        user = new AuthUser(1L, "John Doe", "john.doe@example.com", "password", Role.DRIVER);
+        jwtService = new JwtServiceImpl(new JwtKeyRing(new HmacKeySource(base64Key, ""), 1800000), new SimpleMeterRegistry(), 1000, 1800000);
+    }
+
+    @Benchmark
+    public String decodeKeyPerToken() {
+        return Jwts.builder()
+                .claim("user-id", user.id())
+                .claim("user-email", user.email())
+                .claim("user-name", user.name())
+                .claim("user-role", user.role().name())
+                .signWith(Keys.hmacShaKeyFor(Decoders.BASE64.decode(base64Key)))
+                .expiration(new Date(System.currentTimeMillis() + EXPIRATION))
+                .compact();
+    }
+
+    @Benchmark
+    public String cachedSigningKey() {
+        return jwtService.generateToken(user);
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(JwtTokenBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,65 @@
+package com.gtu.auth_service.benchmark;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gtu.auth_service.infrastructure.logs.LogEvent;
+import com.gtu.auth_service.infrastructure.logs.LogEventEncoder;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LogEncodingBenchmark {
+
+    private static final String EMAIL = "john.doe@example.com";
+    private static final long USER_ID = 42L;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final LogEventEncoder encoder = new LogEventEncoder(new JsonFactory());
+
+    @Benchmark
+    public byte[] mapAndObjectMapper() throws Exception {
+        Map<String, Object> log = new HashMap<>();
+        log.put("timestamp", Instant.now().toString());
+        log.put("service", "auth-service");
+        log.put("level", "INFO");
+        log.put("message", "Login Successful");
+        log.put("details", Map.of("email", EMAIL, "userId", USER_ID));
+        return objectMapper.writeValueAsString(log).getBytes();
+    }
+
+    @Benchmark
+    public byte[] typedEventEncoder() throws Exception {
+        return encoder.encode(LogEvent.of("auth-service", "INFO", "Login Successful")
+                .detail("email", EMAIL)
+                .detail("userId", USER_ID));
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder()
+                .include(LogEncodingBenchmark.class.getSimpleName())
+                .addProfiler(GCProfiler.class)
+                .build()).run();
+    }
+}
@@ -0,0 +1,137 @@
+package com.gtu.auth_service.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ResetTokenLookupBenchmark {
+
+    private static final int INSERT_BATCH = 10_000;
+
+    @Param({"100000", "1000000"})
+    private int rows;
+
+    @Param({"false", "true"})
+    private boolean emailIndex;
+
+    private Connection connection;
+    private PreparedStatement existsByEmail;
+    private PreparedStatement existsPendingByEmail;
+    private PreparedStatement findPendingEntity;
+
+    @Setup(Level.Trial)
+    public void setUp() throws SQLException {
+        connection = DriverManager.getConnection("jdbc:h2:mem:reset_tokens_" + rows + "_" + emailIndex, "sa", "");
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("""
+                    CREATE TABLE reset_tokens (
+                        id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+                        token VARCHAR(255) NOT NULL UNIQUE,
+                        email VARCHAR(255) NOT NULL,
+                        expiry_date TIMESTAMP(6) NOT NULL,
+                        used BOOLEAN NOT NULL DEFAULT FALSE,
+                        account_id BIGINT,
+                        account_type VARCHAR(16))""");
+        }
+        connection.setAutoCommit(false);
+        try (PreparedStatement insert = connection.prepareStatement(
+                "INSERT INTO reset_tokens (token, email, expiry_date, used) VALUES (?, ?, ?, ?)")) {
+            Timestamp expiry = Timestamp.valueOf(LocalDateTime.now().plusMinutes(15));
+            for (int i = 0; i < rows; i++) {
+                insert.setString(1, UUID.randomUUID().toString());
+                insert.setString(2, "user" + i + "@gtu.com");
+                insert.setTimestamp(3, expiry);
+                insert.setBoolean(4, i % 10 != 0);
+                insert.addBatch();
+                if ((i + 1) % INSERT_BATCH == 0) {
+                    insert.executeBatch();
+                }
+            }
+            insert.executeBatch();
+        }
+        connection.commit();
+        connection.setAutoCommit(true);
+        if (emailIndex) {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("CREATE INDEX idx_reset_tokens_email_used ON reset_tokens (email, used)");
+            }
+        }
+        existsByEmail = connection.prepareStatement("SELECT COUNT(*) > 0 FROM reset_tokens WHERE email = ?");
+        existsPendingByEmail = connection.prepareStatement(
+                "SELECT COUNT(*) > 0 FROM reset_tokens WHERE email = ? AND used = FALSE");
+        findPendingEntity = connection.prepareStatement(
+                "SELECT * FROM reset_tokens WHERE email = ? AND used = FALSE");
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("DROP ALL OBJECTS");
+        }
+        connection.close();
+    }
+
+    private String randomEmail() {
+        return "user" + ThreadLocalRandom.current().nextInt(rows) + "@gtu.com";
+    }
+
+    private static boolean queryBoolean(PreparedStatement statement, String email) throws SQLException {
+        statement.setString(1, email);
+        try (ResultSet resultSet = statement.executeQuery()) {
+            return resultSet.next() && resultSet.getBoolean(1);
+        }
+    }
+
+    @Benchmark
+    public boolean existsByEmail() throws SQLException {
+        return queryBoolean(existsByEmail, randomEmail());
+    }
+
+    @Benchmark
+    public boolean existsPendingByEmail() throws SQLException {
+        return queryBoolean(existsPendingByEmail, randomEmail());
+    }
+
+    @Benchmark
+    public boolean findPendingEntity() throws SQLException {
+        findPendingEntity.setString(1, randomEmail());
+        try (ResultSet resultSet = findPendingEntity.executeQuery()) {
+            return resultSet.next();
+        }
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(ResetTokenLookupBenchmark.class.getSimpleName()).build()).run();
+    }
+}
@@ -0,0 +1,72 @@
+package com.gtu.auth_service.benchmark;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.infrastructure.logs.LogEvent;
+import com.gtu.auth_service.infrastructure.logs.LogEventEncoder;
+import com.gtu.auth_service.infrastructure.messaging.EventMessageConverter;
+import com.gtu.auth_service.infrastructure.messaging.WireFormat;
+import com.gtu.auth_service.infrastructure.messaging.event.ResetPasswordEvent;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class WireFormatBenchmark {
+
+    @Param({"JSON", "SMILE", "CBOR"})
+    private WireFormat format;
+
+    private EventMessageConverter converter;
+    private LogEventEncoder logEncoder;
+    private ResetPasswordEvent resetEvent;
+
+    @Setup
+    public void setUp() throws Exception {
+        converter = new EventMessageConverter(new ObjectMapper(), format);
+        logEncoder = new LogEventEncoder(converter.jsonFactory());
+        resetEvent = new ResetPasswordEvent("john.doe@example.com", Role.PASSENGER,
+                "https://gtu.example.com/reset-password?token=6f1c2a4e-5b7d-4c1e-9a3f-2d8e7b6c5a41");
+        System.out.printf("%n%s payload size: reset event %d bytes, log event %d bytes%n", format,
+                converter.serialize(resetEvent).length, logEncoder.encode(loginEvent()).length);
+    }
+
+    private static LogEvent loginEvent() {
+        return LogEvent.of("auth-service", "INFO", "Login Successful")
+                .detail("email", "john.doe@example.com")
+                .detail("userId", 42L);
+    }
+
+    @Benchmark
+    public byte[] resetEvent() {
+        return converter.serialize(resetEvent);
+    }
+
+    @Benchmark
+    public byte[] logEvent() throws Exception {
+        return logEncoder.encode(loginEvent());
+    }
+
+    public static void main(String[] args) throws RunnerException {
+        new Runner(new OptionsBuilder().include(WireFormatBenchmark.class.getSimpleName()).build()).run();
+    }
+}
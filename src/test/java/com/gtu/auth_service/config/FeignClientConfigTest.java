@@ -0,0 +1,60 @@
+package com.gtu.auth_service.config;
+
+import com.gtu.auth_service.infrastructure.client.GuardedFeignClient;
+
+import feign.Client;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+class FeignClientConfigTest {
+
+    private final FeignClientConfig config = new FeignClientConfig();
+
+    @Test
+    void resilienceCapability_ShouldWrapTransportInGuardedClient() {
+        Client enriched = config.resilienceCapability(CircuitBreakerRegistry.ofDefaults(), BulkheadRegistry.ofDefaults())
+                .enrich(new Client.Default(null, null));
+
+        assertInstanceOf(GuardedFeignClient.class, enriched);
+    }
+
+    @Test
+    void feignConnectionPoolMetrics_ShouldExposePoolLimits_WhenPooledTransportIsActive() throws Exception {
+        try (PoolingHttpClientConnectionManager manager = PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(200)
+                .setMaxConnPerRoute(50)
+                .build()) {
+            StaticListableBeanFactory beanFactory = new StaticListableBeanFactory();
+            beanFactory.addBean("hc5ConnectionManager", manager);
+            SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+            config.feignConnectionPoolMetrics(beanFactory.getBeanProvider(PoolingHttpClientConnectionManager.class))
+                    .bindTo(registry);
+
+            assertEquals(200.0, registry.get("httpcomponents.httpclient.pool.total.max")
+                    .tag("httpclient", FeignClientConfig.POOL_METRICS_NAME).gauge().value());
+            assertEquals(50.0, registry.get("httpcomponents.httpclient.pool.route.max.default")
+                    .tag("httpclient", FeignClientConfig.POOL_METRICS_NAME).gauge().value());
+        }
+    }
+
+    @Test
+    void feignConnectionPoolMetrics_ShouldBindNothing_WhenDefaultTransportIsActive() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        config.feignConnectionPoolMetrics(new StaticListableBeanFactory().getBeanProvider(PoolingHttpClientConnectionManager.class))
+                .bindTo(registry);
+
+        assertNull(registry.find("httpcomponents.httpclient.pool.total.max").gauge());
+    }
+}
@@ -0,0 +1,90 @@
+package com.gtu.auth_service.infrastructure;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.mock.env.MockEnvironment;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class BatchedPurgerTest {
+
+    @Mock
+    private BatchedPurger.BatchDelete delete;
+
+    private SimpleMeterRegistry meterRegistry;
+    private BatchedPurger purger;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        purger = new BatchedPurger("auth.test-tokens", delete, meterRegistry, 3600000, 100, 5, 0);
+    }
+
+    @Test
+    void purge_ShouldDeleteInBatches_UntilABatchIsShort() {
+        when(delete.delete(any(LocalDateTime.class), eq(100))).thenReturn(100, 100, 42);
+
+        purger.purge();
+
+        verify(delete, times(3)).delete(any(LocalDateTime.class), eq(100));
+        assertEquals(242.0, meterRegistry.get("auth.test-tokens.purged").counter().count());
+        assertEquals(1, meterRegistry.get("auth.test-tokens.purge.duration").timer().count());
+    }
+
+    @Test
+    void purge_ShouldStopAtMaxBatches() {
+        when(delete.delete(any(LocalDateTime.class), eq(100))).thenReturn(100);
+
+        purger.purge();
+
+        verify(delete, times(5)).delete(any(LocalDateTime.class), eq(100));
+    }
+
+    @Test
+    void purge_ShouldApplyRetention_ToTheExpiryCutoff() {
+        ArgumentCaptor<LocalDateTime> cutoff = ArgumentCaptor.forClass(LocalDateTime.class);
+        when(delete.delete(cutoff.capture(), eq(100))).thenReturn(0);
+
+        purger.purge();
+
+        assertTrue(cutoff.getValue().isBefore(LocalDateTime.now().minusMinutes(59)));
+        assertTrue(cutoff.getValue().isAfter(LocalDateTime.now().minusMinutes(61)));
+    }
+
+    @Test
+    void purge_ShouldSwallowFailures_AndRecordDuration() {
+        when(delete.delete(any(LocalDateTime.class), eq(100)))
+                .thenReturn(100)
+                .thenThrow(new RuntimeException("Lock timeout"));
+
+        purger.purge();
+
+        assertEquals(100.0, meterRegistry.get("auth.test-tokens.purged").counter().count());
+        assertEquals(1, meterRegistry.get("auth.test-tokens.purge.duration").timer().count());
+    }
+
+    @Test
+    void configure_ShouldReadSettings_UnderThePropertyPrefix() {
+        MockEnvironment environment = new MockEnvironment()
+                .withProperty("test-token.purge.batch-size", "10")
+                .withProperty("test-token.purge.max-batches", "2")
+                .withProperty("test-token.purge.pause-ms", "0");
+        when(delete.delete(any(LocalDateTime.class), eq(10))).thenReturn(10);
+
+        BatchedPurger.configure(environment, "test-token.purge", "auth.other-tokens", delete, meterRegistry).purge();
+
+        verify(delete, times(2)).delete(any(LocalDateTime.class), eq(10));
+        assertEquals(20.0, meterRegistry.get("auth.other-tokens.purged").counter().count());
+    }
+}
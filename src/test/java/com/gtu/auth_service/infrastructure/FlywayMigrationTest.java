@@ -0,0 +1,109 @@
+package com.gtu.auth_service.infrastructure;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Properties;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FlywayMigrationTest {
+
+    private static final String BASELINE_RESET_TOKENS = "CREATE TABLE reset_tokens ("
+            + "used BOOLEAN NOT NULL, expiry_date TIMESTAMP(6) NOT NULL, id BIGINT GENERATED BY DEFAULT AS IDENTITY, "
+            + "email VARCHAR(255) NOT NULL, token VARCHAR(255) NOT NULL UNIQUE, PRIMARY KEY (id))";
+
+    private String url;
+    private Connection connection;
+
+    @BeforeEach
+    void setUp() throws SQLException {
+        url = "jdbc:h2:mem:flyway_" + UUID.randomUUID();
+        connection = DriverManager.getConnection(url, "sa", "");
+    }
+
+    @AfterEach
+    void tearDown() throws SQLException {
+        connection.close();
+    }
+
+    private void migrate() throws Exception {
+        Properties properties = new Properties();
+        try (InputStream in = getClass().getResourceAsStream("/application.properties")) {
+            properties.load(in);
+        }
+        Flyway.configure()
+                .dataSource(url, "sa", "")
+                .locations("classpath:db/migration")
+                .baselineOnMigrate(Boolean.parseBoolean(properties.getProperty("spring.flyway.baseline-on-migrate")))
+                .baselineVersion(properties.getProperty("spring.flyway.baseline-version"))
+                .load()
+                .migrate();
+    }
+
+    private boolean hasColumn(String table, String column) throws SQLException {
+        try (ResultSet columns = connection.getMetaData().getColumns(null, null, table.toUpperCase(), column.toUpperCase())) {
+            return columns.next();
+        }
+    }
+
+    private boolean hasTable(String table) throws SQLException {
+        try (ResultSet tables = connection.getMetaData().getTables(null, null, table.toUpperCase(), null)) {
+            return tables.next();
+        }
+    }
+
+    private boolean hasIndex(String table, String index) throws SQLException {
+        try (ResultSet indexes = connection.getMetaData().getIndexInfo(null, null, table.toUpperCase(), false, false)) {
+            while (indexes.next()) {
+                if (index.equalsIgnoreCase(indexes.getString("INDEX_NAME"))) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Test
+    void migrate_ShouldUpgradeDatabaseCreatedByHibernate_BeforeFlyway() throws Exception {
+        try (Statement statement = connection.createStatement()) {
+            statement.execute(BASELINE_RESET_TOKENS);
+            statement.execute("INSERT INTO reset_tokens (used, expiry_date, email, token) "
+                    + "VALUES (FALSE, CURRENT_TIMESTAMP, 'user@gtu.com', 'token-1')");
+        }
+
+        migrate();
+
+        assertTrue(hasColumn("reset_tokens", "account_id"));
+        assertTrue(hasColumn("reset_tokens", "account_type"));
+        assertTrue(hasTable("refresh_tokens"));
+        assertTrue(hasIndex("refresh_tokens", "idx_refresh_tokens_email"));
+        assertTrue(hasTable("outbox_messages"));
+        assertTrue(hasTable("known_accounts"));
+        try (Statement statement = connection.createStatement();
+             ResultSet rows = statement.executeQuery("SELECT COUNT(*) FROM reset_tokens")) {
+            rows.next();
+            assertEquals(1, rows.getInt(1));
+        }
+    }
+
+    @Test
+    void migrate_ShouldCreateSchema_OnEmptyDatabase() throws Exception {
+        migrate();
+
+        assertTrue(hasColumn("reset_tokens", "account_type"));
+        assertTrue(hasTable("refresh_tokens"));
+        assertTrue(hasTable("outbox_messages"));
+        assertTrue(hasTable("known_accounts"));
+    }
+}
@@ -0,0 +1,170 @@
+package com.gtu.auth_service.infrastructure;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.ResetToken;
+import com.gtu.auth_service.infrastructure.entities.ResetTokenEntity;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class InMemoryResetTokenRepositoryTest {
+
+    @Mock
+    private JpaResetTokenRepository jpaResetTokenRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private InMemoryResetTokenRepository resetTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(jpaResetTokenRepository.save(any(ResetTokenEntity.class))).thenAnswer(invocation -> {
+            ResetTokenEntity entity = invocation.getArgument(0);
+            return new ResetTokenEntity(entity.getId() != null ? entity.getId() : 10L, entity.getToken(), entity.getEmail(),
+                    entity.getExpiryDate(), entity.isUsed(), entity.getAccountId(), entity.getAccountType());
+        });
+        meterRegistry = new SimpleMeterRegistry();
+        resetTokenRepository = new InMemoryResetTokenRepository(jpaResetTokenRepository, meterRegistry);
+    }
+
+    private static ResetToken pending(String token, String email) {
+        return new ResetToken(null, token, email, LocalDateTime.now().plusMinutes(15), false, 1L, AccountType.USER);
+    }
+
+    @Test
+    void rebuild_ShouldIndexPendingTokensFromTable() {
+        when(jpaResetTokenRepository.findAllByUsedFalse()).thenReturn(List.of(
+                new ResetTokenEntity(1L, "token123", "email@example.com", LocalDateTime.now().plusMinutes(5), false)));
+
+        resetTokenRepository.rebuild();
+
+        assertTrue(resetTokenRepository.findByToken("token123").isPresent());
+        assertEquals("token123", resetTokenRepository.findByEmailAndUsedFalse("email@example.com").orElseThrow().getToken());
+        verify(jpaResetTokenRepository, never()).findByToken(any());
+    }
+
+    @Test
+    void save_ShouldWriteThrough_AndIndexPendingToken() {
+        ResetToken token = pending("token123", "email@example.com");
+
+        resetTokenRepository.save(token);
+
+        verify(jpaResetTokenRepository).save(any(ResetTokenEntity.class));
+        assertEquals(10L, token.getId());
+        Optional<ResetToken> found = resetTokenRepository.findByToken("token123");
+        assertEquals(10L, found.orElseThrow().getId());
+        assertEquals(AccountType.USER, found.get().getAccountType());
+        assertEquals(1.0, meterRegistry.get("auth.reset-tokens.index").tag("result", "hit").counter().count());
+    }
+
+    @Test
+    void save_ShouldDropTokenFromIndex_WhenMarkedUsed() {
+        ResetToken token = pending("token123", "email@example.com");
+        resetTokenRepository.save(token);
+
+        token.setUsed(true);
+        resetTokenRepository.save(token);
+
+        assertFalse(resetTokenRepository.findByEmailAndUsedFalse("email@example.com").isPresent());
+        when(jpaResetTokenRepository.findByToken("token123")).thenReturn(Optional.of(
+                new ResetTokenEntity(10L, "token123", "email@example.com", token.getExpiryDate(), true)));
+        assertTrue(resetTokenRepository.findByToken("token123").orElseThrow().isUsed());
+    }
+
+    @Test
+    void findByToken_ShouldReturnCopy_SoCallersCannotMutateTheIndex() {
+        resetTokenRepository.save(pending("token123", "email@example.com"));
+
+        resetTokenRepository.findByToken("token123").orElseThrow().setUsed(true);
+
+        assertFalse(resetTokenRepository.findByToken("token123").orElseThrow().isUsed());
+    }
+
+    @Test
+    void existsPendingByEmail_ShouldAnswerFromIndex() {
+        resetTokenRepository.save(pending("token123", "email@example.com"));
+
+        assertTrue(resetTokenRepository.existsPendingByEmail("email@example.com"));
+        assertFalse(resetTokenRepository.existsPendingByEmail("other@example.com"));
+        verify(jpaResetTokenRepository, never()).existsPendingByEmail(any());
+    }
+
+    @Test
+    void deleteExpired_ShouldEvictExpiredTokensFromIndex() {
+        ResetToken expired = pending("expired", "old@example.com");
+        expired.setExpiryDate(LocalDateTime.now().minusHours(2));
+        resetTokenRepository.save(expired);
+        resetTokenRepository.save(pending("fresh", "new@example.com"));
+        when(jpaResetTokenRepository.findPurgeableIds(any(), any())).thenReturn(List.of(10L));
+        when(jpaResetTokenRepository.deleteByIds(List.of(10L))).thenReturn(1);
+
+        assertEquals(1, resetTokenRepository.deleteExpired(LocalDateTime.now().minusHours(1), 100));
+
+        assertFalse(resetTokenRepository.existsPendingByEmail("old@example.com"));
+        assertTrue(resetTokenRepository.existsPendingByEmail("new@example.com"));
+    }
+
+    @Test
+    void claim_ShouldEvictToken_OnlyWhenTheTableClaimSucceeds() {
+        resetTokenRepository.save(pending("token123", "email@example.com"));
+        LocalDateTime now = LocalDateTime.now();
+        when(jpaResetTokenRepository.consume("token123", now)).thenReturn(0, 1);
+        when(jpaResetTokenRepository.findByToken("token123")).thenReturn(Optional.of(
+                new ResetTokenEntity(10L, "token123", "email@example.com", now.plusMinutes(5), true)));
+
+        assertFalse(resetTokenRepository.claim("token123", now).isPresent());
+        assertTrue(resetTokenRepository.existsPendingByEmail("email@example.com"));
+
+        assertTrue(resetTokenRepository.claim("token123", now).isPresent());
+        assertFalse(resetTokenRepository.existsPendingByEmail("email@example.com"));
+    }
+
+    @Test
+    void release_ShouldReindexToken() {
+        when(jpaResetTokenRepository.release("token123")).thenReturn(1);
+        when(jpaResetTokenRepository.findByToken("token123")).thenReturn(Optional.of(
+                new ResetTokenEntity(10L, "token123", "email@example.com", LocalDateTime.now().plusMinutes(5), false)));
+
+        resetTokenRepository.release("token123");
+
+        assertTrue(resetTokenRepository.existsPendingByEmail("email@example.com"));
+    }
+
+    @Test
+    void findByToken_ShouldFallBackToTable_OnMiss() {
+        when(jpaResetTokenRepository.findByToken("other")).thenReturn(Optional.empty());
+
+        assertFalse(resetTokenRepository.findByToken("other").isPresent());
+        verify(jpaResetTokenRepository).findByToken("other");
+        assertEquals(1.0, meterRegistry.get("auth.reset-tokens.index").tag("result", "miss").counter().count());
+    }
+
+    @Test
+    void save_ShouldDeferIndexing_UntilTransactionCommits() {
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            resetTokenRepository.save(pending("token123", "email@example.com"));
+
+            assertFalse(resetTokenRepository.findByEmailAndUsedFalse("email@example.com").isPresent());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            assertTrue(resetTokenRepository.findByEmailAndUsedFalse("email@example.com").isPresent());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+}
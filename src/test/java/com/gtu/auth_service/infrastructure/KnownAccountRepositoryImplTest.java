@@ -0,0 +1,63 @@
+package com.gtu.auth_service.infrastructure;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.KnownAccount;
+import com.gtu.auth_service.infrastructure.entities.KnownAccountEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KnownAccountRepositoryImplTest {
+
+    @Mock
+    private JpaKnownAccountRepository jpaKnownAccountRepository;
+
+    @InjectMocks
+    private KnownAccountRepositoryImpl knownAccountRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void save_ShouldUpsertByEmailAndType() {
+        LocalDateTime now = LocalDateTime.now();
+
+        knownAccountRepository.save(new KnownAccount("john@example.com", AccountType.USER, 1L, "John", "DRIVER", "hash", now));
+
+        verify(jpaKnownAccountRepository).upsert("john@example.com", "USER", 1L, "John", "DRIVER", "hash", now);
+    }
+
+    @Test
+    void find_ShouldMapEntityToDomain() {
+        LocalDateTime now = LocalDateTime.now();
+        when(jpaKnownAccountRepository.findByEmailAndAccountType("jane@example.com", AccountType.PASSENGER))
+                .thenReturn(Optional.of(new KnownAccountEntity(5L, "jane@example.com", AccountType.PASSENGER, 2L, "Jane",
+                        null, "hash", now)));
+
+        Optional<KnownAccount> account = knownAccountRepository.find("jane@example.com", AccountType.PASSENGER);
+
+        assertTrue(account.isPresent());
+        assertEquals(2L, account.get().getAccountId());
+        assertEquals(now, account.get().getCapturedAt());
+    }
+
+    @Test
+    void deleteCapturedBefore_ShouldReturnDeletedCount() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(jpaKnownAccountRepository.deleteCapturedBefore(cutoff)).thenReturn(3);
+
+        assertEquals(3, knownAccountRepository.deleteCapturedBefore(cutoff));
+    }
+}
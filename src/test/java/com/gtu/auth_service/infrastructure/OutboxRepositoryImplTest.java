@@ -0,0 +1,71 @@
+package com.gtu.auth_service.infrastructure;
+
+import com.gtu.auth_service.domain.model.OutboxMessage;
+import com.gtu.auth_service.domain.model.OutboxStatus;
+import com.gtu.auth_service.infrastructure.entities.OutboxMessageEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRepositoryImplTest {
+
+    @Mock
+    private JpaOutboxRepository jpaOutboxRepository;
+
+    @InjectMocks
+    private OutboxRepositoryImpl outboxRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void save_ShouldPersistPendingMessage() {
+        outboxRepository.save(new OutboxMessage("exchange", "routing", new byte[] {1}, "application/json"));
+
+        verify(jpaOutboxRepository).save(any(OutboxMessageEntity.class));
+    }
+
+    @Test
+    void findDue_ShouldQueryPendingMessages_WithLimit() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxMessageEntity entity = new OutboxMessageEntity(1L, "exchange", "routing", "payload".getBytes(), "application/json",
+                OutboxStatus.PENDING, 0, now, now, null);
+        when(jpaOutboxRepository.findDue(OutboxStatus.PENDING, now, PageRequest.of(0, 10))).thenReturn(List.of(entity));
+
+        List<OutboxMessage> due = outboxRepository.findDue(now, 10);
+
+        assertEquals(1, due.size());
+        assertEquals("payload", new String(due.get(0).getPayload()));
+    }
+
+    @Test
+    void deleteAll_ShouldSkipQuery_WhenIdsAreEmpty() {
+        outboxRepository.deleteAll(List.of());
+
+        verify(jpaOutboxRepository, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void markFailed_ShouldTruncateLongErrors() {
+        outboxRepository.markFailed(1L, 10, "x".repeat(1000));
+
+        verify(jpaOutboxRepository).updateAttempt(eq(1L), eq(OutboxStatus.FAILED), eq(10), any(LocalDateTime.class),
+                eq("x".repeat(512)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.gtu.auth_service.infrastructure;
+
+import com.gtu.auth_service.domain.model.RefreshToken;
+import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.infrastructure.entities.RefreshTokenEntity;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class RefreshTokenRepositoryImplTest {
+
+    @Mock
+    private JpaRefreshTokenRepository jpaRefreshTokenRepository;
+
+    @InjectMocks
+    private RefreshTokenRepositoryImpl refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+    }
+
+    @Test
+    void findByTokenHash_ShouldReturnRefreshToken_WhenHashExists() {
+        RefreshTokenEntity entity = new RefreshTokenEntity(1L, "hash123", "family-1", 1L, "email@example.com",
+                "John", Role.DRIVER, LocalDateTime.now(), false, false);
+        when(jpaRefreshTokenRepository.findByTokenHash("hash123")).thenReturn(Optional.of(entity));
+
+        Optional<RefreshToken> result = refreshTokenRepository.findByTokenHash("hash123");
+
+        assertTrue(result.isPresent());
+        assertEquals("family-1", result.get().getFamilyId());
+        assertEquals(Role.DRIVER, result.get().getRole());
+    }
+
+    @Test
+    void findByTokenHash_ShouldReturnEmpty_WhenHashNotExists() {
+        when(jpaRefreshTokenRepository.findByTokenHash("missing")).thenReturn(Optional.empty());
+
+        assertFalse(refreshTokenRepository.findByTokenHash("missing").isPresent());
+    }
+
+    @Test
+    void markUsed_ShouldReturnFalse_WhenNoRowWasUpdated() {
+        when(jpaRefreshTokenRepository.markUsed(1L)).thenReturn(0);
+
+        assertFalse(refreshTokenRepository.markUsed(1L));
+    }
+
+    @Test
+    void markUsed_ShouldReturnTrue_WhenRowWasUpdated() {
+        when(jpaRefreshTokenRepository.markUsed(1L)).thenReturn(1);
+
+        assertTrue(refreshTokenRepository.markUsed(1L));
+    }
+
+    @Test
+    void save_ShouldInvoke_JpaRepositorySave() {
+        RefreshToken refreshToken = new RefreshToken();
+        refreshToken.setTokenHash("hash123");
+        refreshToken.setFamilyId("family-1");
+        refreshToken.setRole(Role.PASSENGER);
+
+        refreshTokenRepository.save(refreshToken);
+
+        verify(jpaRefreshTokenRepository).save(any(RefreshTokenEntity.class));
+    }
+
+    @Test
+    void revokeFamily_ShouldDelegate_ToJpaRepository() {
+        refreshTokenRepository.revokeFamily("family-1");
+
+        verify(jpaRefreshTokenRepository).revokeFamily("family-1");
+    }
+
+    @Test
+    void revokeAllByEmail_ShouldReturnRevokedCount() {
+        when(jpaRefreshTokenRepository.revokeAllByEmail("email@example.com")).thenReturn(3);
+
+        assertEquals(3, refreshTokenRepository.revokeAllByEmail("email@example.com"));
+    }
+
+    @Test
+    void deleteExpiredOrRevoked_ShouldSkipDelete_WhenNothingIsPurgeable() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(jpaRefreshTokenRepository.findPurgeableIds(cutoff, PageRequest.of(0, 10))).thenReturn(List.of());
+
+        assertEquals(0, refreshTokenRepository.deleteExpiredOrRevoked(cutoff, 10));
+        verify(jpaRefreshTokenRepository, never()).deleteByIds(anyList());
+    }
+
+    @Test
+    void deleteExpiredOrRevoked_ShouldDeleteSelectedIds() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(jpaRefreshTokenRepository.findPurgeableIds(cutoff, PageRequest.of(0, 10))).thenReturn(List.of(1L, 2L));
+        when(jpaRefreshTokenRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+
+        assertEquals(2, refreshTokenRepository.deleteExpiredOrRevoked(cutoff, 10));
+    }
+}
@@ -7,13 +7,17 @@ import org.junit.jupiter.api.Test;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
+import org.springframework.data.domain.PageRequest;
+
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -54,7 +58,7 @@ class ResetTokenRepositoryImplTest {
     @Test
     void findByEmail_ShouldReturnResetToken_WhenExists() {
         ResetTokenEntity entity = new ResetTokenEntity(2L, "token456", "email2@example.com", LocalDateTime.now(), false);
-        when(jpaResetTokenRepository.findByEmailAndUsedFalse("email2@example.com")).thenReturn(Optional.of(entity));
+        when(jpaResetTokenRepository.findFirstByEmailAndUsedFalseOrderByIdDesc("email2@example.com")).thenReturn(Optional.of(entity));
 
         Optional<ResetToken> result = resetTokenRepository.findByEmailAndUsedFalse("email2@example.com");
 
@@ -64,7 +68,7 @@ class ResetTokenRepositoryImplTest {
 
     @Test
     void findByEmail_ShouldReturnEmpty_WhenEmailNotExists() {
-        when(jpaResetTokenRepository.findByEmailAndUsedFalse("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(jpaResetTokenRepository.findFirstByEmailAndUsedFalseOrderByIdDesc("nonexistent@example.com")).thenReturn(Optional.empty());
 
         Optional<ResetToken> result = resetTokenRepository.findByEmailAndUsedFalse("nonexistent@example.com");
 
@@ -73,8 +77,7 @@ class ResetTokenRepositoryImplTest {
 
     @Test
     void existsByEmail_ShouldReturnTrue_WhenEmailExists() {
-        ResetTokenEntity entity = new ResetTokenEntity(1L, "token123", "email@example.com", LocalDateTime.now(), false);
-        when(jpaResetTokenRepository.findByEmail("email@example.com")).thenReturn(Optional.of(entity));
+        when(jpaResetTokenRepository.existsByEmail("email@example.com")).thenReturn(true);
 
         boolean result = resetTokenRepository.existsByEmail("email@example.com");
 
@@ -83,13 +86,67 @@ class ResetTokenRepositoryImplTest {
 
     @Test
     void existsByEmail_ShouldReturnFalse_WhenEmailNotExists() {
-        when(jpaResetTokenRepository.findByEmail("nonexistent@example.com")).thenReturn(Optional.empty());
+        when(jpaResetTokenRepository.existsByEmail("nonexistent@example.com")).thenReturn(false);
 
         boolean result = resetTokenRepository.existsByEmail("nonexistent@example.com");
 
         assertFalse(result);
     }
 
+    @Test
+    void existsPendingByEmail_ShouldUseProjectionQuery() {
+        when(jpaResetTokenRepository.existsPendingByEmail("email@example.com")).thenReturn(true);
+
+        assertTrue(resetTokenRepository.existsPendingByEmail("email@example.com"));
+    }
+
+    @Test
+    void claim_ShouldLoadToken_WhenTheUpdateClaimedIt() {
+        LocalDateTime now = LocalDateTime.now();
+        when(jpaResetTokenRepository.consume("token123", now)).thenReturn(1);
+        when(jpaResetTokenRepository.findByToken("token123")).thenReturn(Optional.of(
+                new ResetTokenEntity(1L, "token123", "email@example.com", now.plusMinutes(5), true)));
+
+        Optional<ResetToken> claimed = resetTokenRepository.claim("token123", now);
+
+        assertTrue(claimed.isPresent());
+        assertEquals("email@example.com", claimed.get().getEmail());
+    }
+
+    @Test
+    void claim_ShouldSkipLoad_WhenTheUpdateClaimedNothing() {
+        LocalDateTime now = LocalDateTime.now();
+        when(jpaResetTokenRepository.consume("token123", now)).thenReturn(0);
+
+        assertFalse(resetTokenRepository.claim("token123", now).isPresent());
+        verify(jpaResetTokenRepository, never()).findByToken(any());
+    }
+
+    @Test
+    void release_ShouldResetUsedFlag() {
+        resetTokenRepository.release("token123");
+
+        verify(jpaResetTokenRepository).release("token123");
+    }
+
+    @Test
+    void deleteExpired_ShouldDeleteOneBoundedBatch() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(jpaResetTokenRepository.findPurgeableIds(cutoff, PageRequest.of(0, 2))).thenReturn(List.of(1L, 2L));
+        when(jpaResetTokenRepository.deleteByIds(List.of(1L, 2L))).thenReturn(2);
+
+        assertEquals(2, resetTokenRepository.deleteExpired(cutoff, 2));
+    }
+
+    @Test
+    void deleteExpired_ShouldSkipDelete_WhenNothingIsPurgeable() {
+        LocalDateTime cutoff = LocalDateTime.now();
+        when(jpaResetTokenRepository.findPurgeableIds(cutoff, PageRequest.of(0, 2))).thenReturn(List.of());
+
+        assertEquals(0, resetTokenRepository.deleteExpired(cutoff, 2));
+        verify(jpaResetTokenRepository, never()).deleteByIds(any());
+    }
+
     @Test
     void save_ShouldInvoke_JpaRepositorySave() {
         ResetToken domainToken = new ResetToken();
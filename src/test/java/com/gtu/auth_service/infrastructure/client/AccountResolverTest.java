@@ -0,0 +1,165 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import com.gtu.auth_service.domain.exception.GeneralException;
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccountResolverTest {
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private PassengerClient passengerClient;
+
+    private AccountResolver accountResolver;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        UserLookupCache userLookupCache = new UserLookupCache(userClient, passengerClient, new SimpleMeterRegistry(),
+                LastKnownAccountStore.inMemory(new SimpleMeterRegistry(), 3600000), 60000, 30000, 100);
+        accountResolver = new AccountResolver(userLookupCache, 2, 2000);
+    }
+
+    @AfterEach
+    void tearDown() {
+        accountResolver.shutdown();
+    }
+
+    @Test
+    void resolve_ShouldReturnUser_WhenOnlyUserExists() {
+        when(userClient.getUserByEmail("user@gtu.com")).thenReturn(new UserServiceResponse(1L, "User", "user@gtu.com", "hash", "DRIVER"));
+        when(passengerClient.getPassengerByEmail("user@gtu.com")).thenReturn(new UserServiceResponse());
+
+        Optional<ResolvedAccount> account = accountResolver.resolve("user@gtu.com");
+
+        assertTrue(account.isPresent());
+        assertEquals(AccountType.USER, account.get().type());
+        assertEquals(1L, account.get().id());
+    }
+
+    @Test
+    void resolve_ShouldPreferUser_WhenEmailIsBothUserAndPassenger() {
+        when(userClient.getUserByEmail("both@gtu.com")).thenAnswer(invocation -> {
+            Thread.sleep(200);
+            return new UserServiceResponse(1L, "User", "both@gtu.com", "hash", "ADMIN");
+        });
+        when(passengerClient.getPassengerByEmail("both@gtu.com")).thenReturn(new UserServiceResponse(2L, "P", "both@gtu.com", "hash", null));
+
+        Optional<ResolvedAccount> account = accountResolver.resolve("both@gtu.com");
+
+        assertEquals(AccountType.USER, account.get().type());
+        assertEquals(1L, account.get().id());
+    }
+
+    @Test
+    void resolve_ShouldReturnPassenger_OnceUserLookupComesBackEmpty() {
+        when(userClient.getUserByEmail("passenger@gtu.com")).thenAnswer(invocation -> {
+            Thread.sleep(100);
+            return null;
+        });
+        when(passengerClient.getPassengerByEmail("passenger@gtu.com")).thenReturn(new UserServiceResponse(2L, "P", "passenger@gtu.com", "hash", null));
+
+        Optional<ResolvedAccount> account = accountResolver.resolve("passenger@gtu.com");
+
+        assertEquals(AccountType.PASSENGER, account.get().type());
+    }
+
+    @Test
+    void resolve_ShouldFailFast_WhenLookupQueueIsFull() throws Exception {
+        AccountResolver saturated = new AccountResolver(
+                new UserLookupCache(userClient, passengerClient, new SimpleMeterRegistry(),
+                LastKnownAccountStore.inMemory(new SimpleMeterRegistry(), 3600000), 60000, 30000, 100), 1, 2000);
+        CountDownLatch release = new CountDownLatch(1);
+        when(userClient.getUserByEmail(anyString())).thenAnswer(invocation -> {
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        try {
+            Thread first = new Thread(() -> saturated.resolve("first@gtu.com"));
+            first.start();
+            verify(userClient, timeout(1000)).getUserByEmail("first@gtu.com");
+            Thread second = new Thread(() -> saturated.resolve("second@gtu.com"));
+            second.start();
+            awaitWaiting(second);
+
+            ServiceUnavailableException exception = assertThrows(ServiceUnavailableException.class,
+                    () -> saturated.resolve("third@gtu.com"));
+            assertEquals(503, exception.getStatusCode());
+        } finally {
+            release.countDown();
+            saturated.shutdown();
+        }
+    }
+
+    private static void awaitWaiting(Thread thread) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(1);
+        while (thread.getState() != Thread.State.TIMED_WAITING && System.nanoTime() < deadline) {
+            Thread.sleep(1);
+        }
+    }
+
+    @Test
+    void resolve_ShouldReturnFoundAccount_WhenOtherLookupFails() {
+        when(userClient.getUserByEmail("passenger@gtu.com")).thenThrow(new RuntimeException("Users service down"));
+        when(passengerClient.getPassengerByEmail("passenger@gtu.com")).thenReturn(new UserServiceResponse(2L, "P", "passenger@gtu.com", "hash", null));
+
+        assertEquals(AccountType.PASSENGER, accountResolver.resolve("passenger@gtu.com").get().type());
+    }
+
+    @Test
+    void resolve_ShouldReturnEmpty_WhenNeitherAccountExists() {
+        when(userClient.getUserByEmail("ghost@gtu.com")).thenReturn(new UserServiceResponse());
+        when(passengerClient.getPassengerByEmail("ghost@gtu.com")).thenReturn(null);
+
+        assertFalse(accountResolver.resolve("ghost@gtu.com").isPresent());
+    }
+
+    @Test
+    void resolve_ShouldRethrowFailure_WhenNoLookupSucceeds() {
+        when(userClient.getUserByEmail("user@gtu.com")).thenThrow(new IllegalStateException("Users service down"));
+        when(passengerClient.getPassengerByEmail("user@gtu.com")).thenReturn(null);
+
+        assertThrows(IllegalStateException.class, () -> accountResolver.resolve("user@gtu.com"));
+    }
+
+    @Test
+    void resolve_ShouldThrowGatewayTimeout_WhenLookupsExceedTimeout() {
+        AccountResolver impatient = new AccountResolver(
+                new UserLookupCache(userClient, passengerClient, new SimpleMeterRegistry(),
+                LastKnownAccountStore.inMemory(new SimpleMeterRegistry(), 3600000), 60000, 30000, 100), 2, 50);
+        when(userClient.getUserByEmail("slow@gtu.com")).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return null;
+        });
+        when(passengerClient.getPassengerByEmail("slow@gtu.com")).thenAnswer(invocation -> {
+            Thread.sleep(1_000);
+            return null;
+        });
+
+        GeneralException exception = assertThrows(GeneralException.class, () -> impatient.resolve("slow@gtu.com"));
+        assertEquals(504, exception.getStatusCode());
+        impatient.shutdown();
+    }
+}
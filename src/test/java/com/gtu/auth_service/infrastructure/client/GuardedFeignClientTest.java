@@ -0,0 +1,158 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import com.github.tomakehurst.wiremock.WireMockServer;
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+
+import feign.Client;
+import feign.Feign;
+import feign.FeignException;
+import feign.Param;
+import feign.Request;
+import feign.RequestLine;
+import feign.RetryableException;
+import feign.Retryer;
+import io.github.resilience4j.bulkhead.Bulkhead;
+import io.github.resilience4j.bulkhead.BulkheadConfig;
+import io.github.resilience4j.bulkhead.BulkheadRegistry;
+import io.github.resilience4j.circuitbreaker.CircuitBreaker;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerConfig;
+import io.github.resilience4j.circuitbreaker.CircuitBreakerRegistry;
+import io.github.resilience4j.micrometer.tagged.TaggedCircuitBreakerMetrics;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static com.github.tomakehurst.wiremock.client.WireMock.aResponse;
+import static com.github.tomakehurst.wiremock.client.WireMock.get;
+import static com.github.tomakehurst.wiremock.client.WireMock.getRequestedFor;
+import static com.github.tomakehurst.wiremock.client.WireMock.urlPathEqualTo;
+import static com.github.tomakehurst.wiremock.core.WireMockConfiguration.options;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class GuardedFeignClientTest {
+
+    private static final String USERS_PATH = "/internal/users";
+    private static final String GUARD_NAME = "probeClient";
+    private static final int READ_TIMEOUT_MS = 300;
+
+    private WireMockServer usersService;
+    private CircuitBreakerRegistry circuitBreakerRegistry;
+    private BulkheadRegistry bulkheadRegistry;
+    private ProbeClient client;
+
+    interface ProbeClient {
+        @RequestLine("GET /internal/users?email={email}")
+        String getUserByEmail(@Param("email") String email);
+    }
+
+    @BeforeEach
+    void setUp() {
+        usersService = new WireMockServer(options().dynamicPort());
+        usersService.start();
+        circuitBreakerRegistry = CircuitBreakerRegistry.of(CircuitBreakerConfig.custom()
+                .slidingWindowType(CircuitBreakerConfig.SlidingWindowType.COUNT_BASED)
+                .slidingWindowSize(4)
+                .minimumNumberOfCalls(4)
+                .failureRateThreshold(50)
+                .waitDurationInOpenState(Duration.ofSeconds(30))
+                .build());
+        bulkheadRegistry = BulkheadRegistry.of(BulkheadConfig.custom()
+                .maxConcurrentCalls(1)
+                .maxWaitDuration(Duration.ZERO)
+                .build());
+        client = Feign.builder()
+                .client(new GuardedFeignClient(new Client.Default(null, null), circuitBreakerRegistry, bulkheadRegistry))
+                .options(new Request.Options(200, TimeUnit.MILLISECONDS, READ_TIMEOUT_MS, TimeUnit.MILLISECONDS, true))
+                .retryer(Retryer.NEVER_RETRY)
+                .target(ProbeClient.class, usersService.baseUrl());
+    }
+
+    @AfterEach
+    void tearDown() {
+        usersService.stop();
+    }
+
+    private void respondWith(int status, int delayMs) {
+        usersService.stubFor(get(urlPathEqualTo(USERS_PATH))
+                .willReturn(aResponse().withStatus(status).withBody("user").withFixedDelay(delayMs)));
+    }
+
+    @Test
+    void execute_ShouldGiveUpAtReadTimeout_WhenUpstreamIsSlow() {
+        respondWith(200, 2000);
+
+        long start = System.nanoTime();
+        assertThrows(RetryableException.class, () -> client.getUserByEmail("user@gtu.com"));
+        long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertTrue(elapsedMs < 1500, "call took " + elapsedMs + " ms");
+    }
+
+    @Test
+    void execute_ShouldOpenBreaker_AndStopCallingUpstream_AfterRepeatedTimeouts() {
+        respondWith(200, 2000);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(RetryableException.class, () -> client.getUserByEmail("user@gtu.com"));
+        }
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> client.getUserByEmail("user@gtu.com"));
+
+        assertEquals(503, ex.getStatusCode());
+        assertEquals(30, ex.getRetryAfterSeconds());
+        usersService.verify(4, getRequestedFor(urlPathEqualTo(USERS_PATH)));
+    }
+
+    @Test
+    void execute_ShouldCountServerErrors_ButNotClientErrors() {
+        respondWith(404, 0);
+        for (int i = 0; i < 8; i++) {
+            assertThrows(FeignException.NotFound.class, () -> client.getUserByEmail("ghost@gtu.com"));
+        }
+        assertEquals(CircuitBreaker.State.CLOSED, circuitBreakerRegistry.circuitBreaker(GUARD_NAME).getState());
+
+        respondWith(503, 0);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FeignException.ServiceUnavailable.class, () -> client.getUserByEmail("user@gtu.com"));
+        }
+        assertEquals(CircuitBreaker.State.OPEN, circuitBreakerRegistry.circuitBreaker(GUARD_NAME).getState());
+    }
+
+    @Test
+    void execute_ShouldRejectImmediately_WhenBulkheadIsFull() throws Exception {
+        respondWith(200, 200);
+        Bulkhead bulkhead = bulkheadRegistry.bulkhead(GUARD_NAME);
+        CompletableFuture<String> inFlight = CompletableFuture.supplyAsync(() -> client.getUserByEmail("user@gtu.com"));
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (bulkhead.getMetrics().getAvailableConcurrentCalls() > 0 && System.nanoTime() < deadline) {
+            Thread.onSpinWait();
+        }
+
+        assertThrows(ServiceUnavailableException.class, () -> client.getUserByEmail("other@gtu.com"));
+        assertEquals("user", inFlight.get(2, TimeUnit.SECONDS));
+        assertEquals(1, bulkhead.getMetrics().getAvailableConcurrentCalls());
+    }
+
+    @Test
+    void breakerState_ShouldBeExposedAsGauge() {
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        circuitBreakerRegistry.circuitBreaker(GUARD_NAME);
+        TaggedCircuitBreakerMetrics.ofCircuitBreakerRegistry(circuitBreakerRegistry).bindTo(meterRegistry);
+
+        respondWith(500, 0);
+        for (int i = 0; i < 4; i++) {
+            assertThrows(FeignException.class, () -> client.getUserByEmail("user@gtu.com"));
+        }
+
+        assertEquals(1.0, meterRegistry.get("resilience4j.circuitbreaker.state")
+                .tags("name", GUARD_NAME, "state", "open").gauge().value());
+    }
+}
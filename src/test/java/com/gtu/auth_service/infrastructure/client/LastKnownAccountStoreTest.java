@@ -0,0 +1,192 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.KnownAccount;
+import com.gtu.auth_service.domain.repository.KnownAccountRepository;
+import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class LastKnownAccountStoreTest {
+
+    private static final long MAX_STALENESS_MS = Duration.ofHours(6).toMillis();
+
+    @Mock
+    private KnownAccountRepository repository;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    private LastKnownAccountStore store(boolean enabled, boolean persist) {
+        return new LastKnownAccountStore(repository, meterRegistry, enabled, MAX_STALENESS_MS, 100, persist, clock);
+    }
+
+    private double staleServed(String type) {
+        return meterRegistry.get("auth.lookups.stale-served").tag("type", type).counter().count();
+    }
+
+    private static UserServiceResponse user() {
+        return new UserServiceResponse(1L, "John", "john@example.com", "hash", "DRIVER");
+    }
+
+    @Test
+    void recall_ShouldServeRememberedAccount_AndCountIt() {
+        LastKnownAccountStore store = store(true, false);
+        store.remember(AccountType.USER, "john@example.com", user());
+
+        Optional<UserServiceResponse> recalled = store.recall(AccountType.USER, " JOHN@example.com");
+
+        assertTrue(recalled.isPresent());
+        assertEquals(1L, recalled.get().getId());
+        assertEquals("hash", recalled.get().getPassword());
+        assertEquals("DRIVER", recalled.get().getRole());
+        assertEquals(1.0, staleServed("user"));
+        assertEquals(0.0, staleServed("passenger"));
+    }
+
+    @Test
+    void recall_ShouldNotServeAccount_OlderThanMaxStaleness() {
+        LastKnownAccountStore store = store(true, false);
+        store.remember(AccountType.USER, "john@example.com", user());
+
+        clock.advance(Duration.ofMillis(MAX_STALENESS_MS + 1));
+
+        assertTrue(store.recall(AccountType.USER, "john@example.com").isEmpty());
+        assertEquals(0.0, staleServed("user"));
+    }
+
+    @Test
+    void recall_ShouldKeepAccountTypesApart() {
+        LastKnownAccountStore store = store(true, false);
+        store.remember(AccountType.USER, "john@example.com", user());
+
+        assertTrue(store.recall(AccountType.PASSENGER, "john@example.com").isEmpty());
+    }
+
+    @Test
+    void forget_ShouldDropAccount_ForEveryType() {
+        LastKnownAccountStore store = store(true, false);
+        store.remember(AccountType.USER, "john@example.com", user());
+        store.remember(AccountType.PASSENGER, "john@example.com", user());
+
+        store.forget("John@example.com");
+
+        assertTrue(store.recall(AccountType.USER, "john@example.com").isEmpty());
+        assertTrue(store.recall(AccountType.PASSENGER, "john@example.com").isEmpty());
+    }
+
+    @Test
+    void remember_ShouldSkipWrite_WhenAccountIsUnchangedAndRecent() {
+        LastKnownAccountStore store = store(true, true);
+        store.remember(AccountType.USER, "john@example.com", user());
+        clock.advance(Duration.ofMinutes(1));
+        store.remember(AccountType.USER, "john@example.com", user());
+
+        verify(repository, times(1)).save(any(KnownAccount.class));
+    }
+
+    @Test
+    void remember_ShouldRewrite_WhenPasswordHashChanged() {
+        LastKnownAccountStore store = store(true, true);
+        store.remember(AccountType.USER, "john@example.com", user());
+        store.remember(AccountType.USER, "john@example.com",
+                new UserServiceResponse(1L, "John", "john@example.com", "new-hash", "DRIVER"));
+
+        verify(repository, times(2)).save(any(KnownAccount.class));
+        assertEquals("new-hash", store.recall(AccountType.USER, "john@example.com").get().getPassword());
+    }
+
+    @Test
+    void recall_ShouldFallBackToPersistedAccount_WithinMaxStaleness() {
+        LocalDateTime capturedAt = LocalDateTime.now(clock).minusHours(1);
+        when(repository.find("jane@example.com", AccountType.PASSENGER)).thenReturn(Optional.of(
+                new KnownAccount("jane@example.com", AccountType.PASSENGER, 2L, "Jane", null, "hash", capturedAt)));
+
+        Optional<UserServiceResponse> recalled = store(true, true).recall(AccountType.PASSENGER, "jane@example.com");
+
+        assertEquals(2L, recalled.get().getId());
+        assertEquals(1.0, staleServed("passenger"));
+    }
+
+    @Test
+    void recall_ShouldIgnorePersistedAccount_OlderThanMaxStaleness() {
+        LocalDateTime capturedAt = LocalDateTime.now(clock).minusHours(7);
+        when(repository.find("jane@example.com", AccountType.PASSENGER)).thenReturn(Optional.of(
+                new KnownAccount("jane@example.com", AccountType.PASSENGER, 2L, "Jane", null, "hash", capturedAt)));
+
+        assertTrue(store(true, true).recall(AccountType.PASSENGER, "jane@example.com").isEmpty());
+    }
+
+    @Test
+    void store_ShouldDoNothing_WhenDisabled() {
+        LastKnownAccountStore store = store(false, true);
+        store.remember(AccountType.USER, "john@example.com", user());
+
+        assertTrue(store.recall(AccountType.USER, "john@example.com").isEmpty());
+        store.forget("john@example.com");
+        store.purgeExpired();
+        verifyNoInteractions(repository);
+    }
+
+    @Test
+    void purgeExpired_ShouldDeleteRowsOlderThanMaxStaleness_OnlyWhenPersisting() {
+        store(true, false).purgeExpired();
+        verify(repository, never()).deleteCapturedBefore(any());
+
+        store(true, true).purgeExpired();
+        verify(repository).deleteCapturedBefore(LocalDateTime.now(clock).minusHours(6));
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
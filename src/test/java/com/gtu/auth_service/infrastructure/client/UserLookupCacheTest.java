@@ -0,0 +1,119 @@
+package com.gtu.auth_service.infrastructure.client;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.infrastructure.client.dto.UserServiceResponse;
+import feign.FeignException;
+import feign.Request;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UserLookupCacheTest {
+
+    @Mock
+    private UserClient userClient;
+
+    @Mock
+    private PassengerClient passengerClient;
+
+    private SimpleMeterRegistry meterRegistry;
+    private LastKnownAccountStore lastKnownAccounts;
+    private UserLookupCache userLookupCache;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        lastKnownAccounts = LastKnownAccountStore.inMemory(meterRegistry, 3600000);
+        userLookupCache = new UserLookupCache(userClient, passengerClient, meterRegistry, lastKnownAccounts, 60000, 30000, 100);
+    }
+
+    @Test
+    void getUser_ShouldCallRemoteOnce_ForNormalizedEmail() {
+        UserServiceResponse user = new UserServiceResponse(1L, "John", "john@example.com", "hash", "DRIVER");
+        when(userClient.getUserByEmail("john@example.com")).thenReturn(user);
+
+        userLookupCache.getUser("john@example.com");
+        UserServiceResponse result = userLookupCache.getUser("JOHN@example.com ");
+
+        assertEquals(1L, result.getId());
+        verify(userClient, times(1)).getUserByEmail("john@example.com");
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "users").tag("result", "hit").functionCounter().count());
+    }
+
+    @Test
+    void getUser_ShouldCallRemoteWithCallerEmail_AndCacheUnderNormalizedKey() {
+        UserServiceResponse user = new UserServiceResponse(1L, "John", "John@Example.com", "hash", "DRIVER");
+        when(userClient.getUserByEmail("John@Example.com")).thenReturn(user);
+
+        userLookupCache.getUser("John@Example.com");
+        UserServiceResponse result = userLookupCache.getUser("john@example.com");
+
+        assertEquals(1L, result.getId());
+        verify(userClient, times(1)).getUserByEmail("John@Example.com");
+        verify(userClient, never()).getUserByEmail("john@example.com");
+    }
+
+    @Test
+    void getUser_ShouldNotCacheResponseWithoutId() {
+        when(userClient.getUserByEmail("ghost@example.com")).thenReturn(new UserServiceResponse());
+
+        userLookupCache.getUser("ghost@example.com");
+        UserServiceResponse result = userLookupCache.getUser("ghost@example.com");
+
+        assertNull(result.getId());
+        verify(userClient, times(2)).getUserByEmail("ghost@example.com");
+    }
+
+    @Test
+    void evict_ShouldForceReload_ForUserAndPassenger() {
+        UserServiceResponse passenger = new UserServiceResponse(2L, "Jane", "jane@example.com", "hash", null);
+        when(passengerClient.getPassengerByEmail("jane@example.com")).thenReturn(passenger);
+
+        userLookupCache.getPassenger("jane@example.com");
+        userLookupCache.evict("Jane@example.com");
+        userLookupCache.getPassenger("jane@example.com");
+
+        verify(passengerClient, times(2)).getPassengerByEmail("jane@example.com");
+    }
+
+    @Test
+    void evict_ShouldForgetLastKnownAccount() {
+        UserServiceResponse user = new UserServiceResponse(1L, "John", "john@example.com", "hash", "DRIVER");
+        when(userClient.getUserByEmail("john@example.com")).thenReturn(user);
+
+        userLookupCache.getUser("john@example.com");
+        assertTrue(lastKnownAccounts.recall(AccountType.USER, "john@example.com").isPresent());
+
+        userLookupCache.evict("john@example.com");
+
+        assertTrue(lastKnownAccounts.recall(AccountType.USER, "john@example.com").isEmpty());
+    }
+
+    @Test
+    void getPassenger_ShouldForgetLastKnownAccount_WhenRemoteAnswersNotFound() {
+        lastKnownAccounts.remember(AccountType.PASSENGER, "jane@example.com",
+                new UserServiceResponse(2L, "Jane", "jane@example.com", "hash", null));
+        when(passengerClient.getPassengerByEmail("jane@example.com")).thenThrow(new FeignException.NotFound("Not found",
+                Request.create(Request.HttpMethod.GET, "/internal/passengers", Collections.emptyMap(), null, StandardCharsets.UTF_8, null),
+                null, null));
+
+        assertThrows(FeignException.NotFound.class, () -> userLookupCache.getPassenger("jane@example.com"));
+
+        assertTrue(lastKnownAccounts.recall(AccountType.PASSENGER, "jane@example.com").isEmpty());
+    }
+}
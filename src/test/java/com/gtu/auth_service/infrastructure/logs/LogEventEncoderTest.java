@@ -0,0 +1,57 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogEventEncoderTest {
+
+    private final LogEventEncoder encoder = new LogEventEncoder(new JsonFactory());
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    @Test
+    void encode_ShouldWriteTypedFields() throws Exception {
+        LogEvent event = LogEvent.of(1672574400000L, "auth-service", "INFO", "Login Successful")
+                .detail("email", "john.doe@example.com")
+                .detail("userId", 42L)
+                .detail("retry", true)
+                .detail("error", null);
+
+        JsonNode json = objectMapper.readTree(encoder.encode(event));
+
+        assertEquals(1672574400000L, json.get("timestamp").asLong());
+        assertTrue(json.get("timestamp").isNumber());
+        assertEquals("auth-service", json.get("service").asText());
+        assertEquals("INFO", json.get("level").asText());
+        assertEquals("Login Successful", json.get("message").asText());
+        assertEquals("john.doe@example.com", json.get("details").get("email").asText());
+        assertEquals(42L, json.get("details").get("userId").asLong());
+        assertTrue(json.get("details").get("retry").asBoolean());
+        assertTrue(json.get("details").get("error").isNull());
+    }
+
+    @Test
+    void encode_ShouldNotLeakPreviousEvent_WhenBufferIsReused() throws Exception {
+        encoder.encode(LogEvent.of("auth-service", "ERROR", "a much longer first message").detail("key", "value"));
+
+        JsonNode json = objectMapper.readTree(encoder.encode(LogEvent.of("auth-service", "INFO", "short")));
+
+        assertEquals("short", json.get("message").asText());
+        assertEquals(0, json.get("details").size());
+    }
+
+    @Test
+    void detail_ShouldIgnoreEntries_BeyondCapacity() {
+        LogEvent event = LogEvent.of("auth-service", "INFO", "Test log");
+        for (int i = 0; i < 12; i++) {
+            event.detail("key" + i, i);
+        }
+
+        assertEquals(8, event.detailCount());
+        assertEquals(7, event.detail("key7"));
+    }
+}
@@ -1,34 +1,57 @@
 package com.gtu.auth_service.infrastructure.logs;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gtu.auth_service.infrastructure.messaging.EventMessageConverter;
+import com.gtu.auth_service.infrastructure.messaging.WireFormat;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
-import org.springframework.amqp.core.AmqpTemplate;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
 
 import java.lang.reflect.Field;
-import java.util.HashMap;
-import java.util.Map;
+import java.nio.charset.StandardCharsets;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.*;
 
 class LogPublisherTest {
 
     @Mock
-    private AmqpTemplate amqpTemplate;
+    private RabbitOperations rabbitOperations;
 
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private LogPublisher logPublisher;
 
     @BeforeEach
     void setUp() throws Exception {
         MockitoAnnotations.openMocks(this);
+        when(rabbitOperations.invoke(any())).thenAnswer(invocation ->
+                invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(rabbitOperations));
+        meterRegistry = new SimpleMeterRegistry();
+        logPublisher = publisher(4, LogOverflowPolicy.DROP_NEWEST);
+    }
+
+    private LogPublisher publisher(int capacity, LogOverflowPolicy policy) throws Exception {
+        return publisher(capacity, policy, LogThrottle.unlimited(meterRegistry));
+    }
 
-        setPrivateField(logPublisher, "exchange", "test.exchange");
-        setPrivateField(logPublisher, "routingKey", "test.routingkey");
+    private LogPublisher publisher(int capacity, LogOverflowPolicy policy, LogThrottle throttle) throws Exception {
+        LogPublisher publisher = new LogPublisher(rabbitOperations, meterRegistry, throttle,
+                new EventMessageConverter(new ObjectMapper(), WireFormat.JSON), capacity, 2, 10, policy);
+        setPrivateField(publisher, "exchange", "test.exchange");
+        setPrivateField(publisher, "routingKey", "test.routingkey");
+        return publisher;
     }
 
     private void setPrivateField(Object target, String fieldName, Object value) throws Exception {
@@ -37,28 +60,110 @@ class LogPublisherTest {
         field.set(target, value);
     }
 
+    private static LogEvent event(String level, String message) {
+        return LogEvent.of(1672574400000L, "auth-service", level, message);
+    }
+
+    private static Message withBody(String fragment) {
+        return argThat(message -> new String(message.getBody(), StandardCharsets.UTF_8).contains(fragment));
+    }
+
+    @Test
+    void publish_ShouldSendEncodedMessage() {
+        logPublisher.publish(event("INFO", "Test log").detail("key", "value"));
+        logPublisher.flush();
+
+        ArgumentCaptor<Message> captor = ArgumentCaptor.forClass(Message.class);
+        verify(rabbitOperations, times(1)).send(eq("test.exchange"), eq("test.routingkey"), captor.capture());
+        String body = new String(captor.getValue().getBody(), StandardCharsets.UTF_8);
+        assertEquals(MessageProperties.CONTENT_TYPE_JSON, captor.getValue().getMessageProperties().getContentType());
+        assertTrue(body.contains("\"timestamp\":1672574400000"));
+        assertTrue(body.contains("\"details\":{\"key\":\"value\"}"));
+    }
+
     @Test
-    void sendLog_ShouldSendMessageSuccessfully() throws Exception {
-        Map<String, Object> details = new HashMap<>();
-        details.put("key", "value");
+    void publish_ShouldHandleExceptionGracefully() {
+        doThrow(new RuntimeException("AMQP error"))
+                .when(rabbitOperations).send(anyString(), anyString(), any(Message.class));
+
+        logPublisher.publish(event("ERROR", "Test error"));
+        logPublisher.flush();
 
-        logPublisher.sendLog("2023-01-01T12:00:00Z", "auth-service", "INFO", "Test log", details);
+        verify(rabbitOperations, times(1)).send(anyString(), anyString(), any(Message.class));
+        assertEquals(1.0, meterRegistry.get("auth.logs.failed").counter().count());
+    }
 
-        verify(amqpTemplate, times(1))
-                .convertAndSend(eq("test.exchange"), eq("test.routingkey"), anyString());
+    @Test
+    void publish_ShouldNotPublishOnCallerThread() {
+        logPublisher.publish(event("INFO", "Test log"));
 
-        verifyNoMoreInteractions(amqpTemplate);
+        verifyNoInteractions(rabbitOperations);
+        assertEquals(1.0, meterRegistry.get("auth.logs.enqueued").counter().count());
     }
 
     @Test
-    void sendLog_ShouldHandleExceptionGracefully() throws Exception {
-        Map<String, Object> details = new HashMap<>();
-        doThrow(new RuntimeException("AMQP error"))
-                .when(amqpTemplate).convertAndSend(anyString(), anyString(), anyString());
+    void flush_ShouldPublishInBatches() {
+        for (int i = 0; i < 3; i++) {
+            logPublisher.publish(event("INFO", "Test log " + i));
+        }
+
+        logPublisher.flush();
+
+        verify(rabbitOperations, times(2)).invoke(any());
+        verify(rabbitOperations, times(3)).send(anyString(), anyString(), any(Message.class));
+        assertEquals(3.0, meterRegistry.get("auth.logs.published").counter().count());
+    }
+
+    @Test
+    void publish_ShouldDropNewest_WhenBufferIsFull() {
+        for (int i = 0; i < 6; i++) {
+            logPublisher.publish(event("INFO", "Test log " + i));
+        }
+
+        logPublisher.flush();
+
+        verify(rabbitOperations, times(4)).send(anyString(), anyString(), any(Message.class));
+        verify(rabbitOperations, never()).send(anyString(), anyString(), withBody("Test log 5"));
+        assertEquals(2.0, meterRegistry.get("auth.logs.dropped").counter().count());
+    }
+
+    @Test
+    void publish_ShouldDropOldest_WhenConfigured() throws Exception {
+        meterRegistry = new SimpleMeterRegistry();
+        LogPublisher dropOldest = publisher(4, LogOverflowPolicy.DROP_OLDEST);
+        for (int i = 0; i < 6; i++) {
+            dropOldest.publish(event("INFO", "Test log " + i));
+        }
+
+        dropOldest.flush();
+
+        verify(rabbitOperations, never()).send(anyString(), anyString(), withBody("Test log 0"));
+        verify(rabbitOperations).send(anyString(), anyString(), withBody("Test log 5"));
+        assertEquals(2.0, meterRegistry.get("auth.logs.dropped").counter().count());
+    }
+
+    @Test
+    void publish_ShouldSummarizeSampledOutEvents_OnStop() throws Exception {
+        LogThrottle throttle = new LogThrottle(meterRegistry, "", "Login Successful=0", 0, 0, 10000);
+        LogPublisher sampled = publisher(4, LogOverflowPolicy.DROP_NEWEST, throttle);
+        for (int i = 0; i < 3; i++) {
+            sampled.publish(event("INFO", "Login Successful"));
+        }
+        sampled.publish(event("ERROR", "Login Successful"));
+
+        sampled.stop();
+
+        verify(rabbitOperations, times(2)).send(anyString(), anyString(), any(Message.class));
+        verify(rabbitOperations).send(anyString(), anyString(), withBody("\"suppressed\":3"));
+    }
+
+    @Test
+    void stop_ShouldFlushPendingEvents() throws Exception {
+        logPublisher.start();
+        logPublisher.publish(event("INFO", "Test log"));
 
-        logPublisher.sendLog("2023-01-01T12:00:00Z", "auth-service", "ERROR", "Test error", details);
+        logPublisher.stop();
 
-        verify(amqpTemplate, times(1))
-                .convertAndSend(anyString(), anyString(), anyString());
+        verify(rabbitOperations, times(1)).send(anyString(), anyString(), any(Message.class));
     }
 }
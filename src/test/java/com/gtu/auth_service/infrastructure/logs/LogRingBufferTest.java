@@ -0,0 +1,73 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogRingBufferTest {
+
+    @Test
+    void capacity_ShouldRoundUpToPowerOfTwo() {
+        assertEquals(8, new LogRingBuffer<String>(5).capacity());
+    }
+
+    @Test
+    void offer_ShouldReject_WhenFull_AndPollShouldPreserveOrder() {
+        LogRingBuffer<String> buffer = new LogRingBuffer<>(2);
+
+        assertTrue(buffer.offer("a"));
+        assertTrue(buffer.offer("b"));
+        assertFalse(buffer.offer("c"));
+        assertEquals(2, buffer.size());
+        assertEquals("a", buffer.poll());
+        assertEquals("b", buffer.poll());
+        assertNull(buffer.poll());
+    }
+
+    @Test
+    void offerAndPoll_ShouldNotLoseElements_UnderConcurrency() throws InterruptedException {
+        LogRingBuffer<Integer> buffer = new LogRingBuffer<>(64);
+        Set<Integer> consumed = ConcurrentHashMap.newKeySet();
+        int producers = 4;
+        int perProducer = 5_000;
+        ExecutorService executor = Executors.newFixedThreadPool(producers + 2);
+        CountDownLatch produced = new CountDownLatch(producers);
+
+        for (int p = 0; p < producers; p++) {
+            int base = p * perProducer;
+            executor.execute(() -> {
+                for (int i = 0; i < perProducer; i++) {
+                    while (!buffer.offer(base + i)) {
+                        Thread.onSpinWait();
+                    }
+                }
+                produced.countDown();
+            });
+        }
+        for (int c = 0; c < 2; c++) {
+            executor.execute(() -> {
+                while (consumed.size() < producers * perProducer) {
+                    Integer value = buffer.poll();
+                    if (value != null) {
+                        consumed.add(value);
+                    }
+                }
+            });
+        }
+
+        assertTrue(produced.await(10, TimeUnit.SECONDS));
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+        assertEquals(producers * perProducer, consumed.size());
+    }
+}
@@ -0,0 +1,81 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LogThrottleTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private static LogEvent event(String level, String message) {
+        return LogEvent.of("auth-service", level, message);
+    }
+
+    @Test
+    void admit_ShouldPassEverything_WhenUnlimited() {
+        LogThrottle throttle = LogThrottle.unlimited(meterRegistry);
+
+        for (int i = 0; i < 1000; i++) {
+            assertTrue(throttle.admit(event("INFO", "Login Successful")));
+        }
+    }
+
+    @Test
+    void admit_ShouldApplyMessageRate_OverLevelRate() {
+        LogThrottle throttle = new LogThrottle(meterRegistry, "INFO=1", "Login Successful=0", 0, 0, 10000);
+
+        assertFalse(throttle.admit(event("INFO", "Login Successful")));
+        assertTrue(throttle.admit(event("INFO", "Reset email event queued")));
+        assertEquals(1.0, meterRegistry.get("auth.logs.suppressed").tag("reason", "sampled").counter().count());
+    }
+
+    @Test
+    void admit_ShouldAlwaysPassErrors() {
+        LogThrottle throttle = new LogThrottle(meterRegistry, "ERROR=0,CRITICAL=0,INFO=0", "", 1, 1, 10000);
+
+        for (int i = 0; i < 100; i++) {
+            assertTrue(throttle.admit(event("ERROR", "Failed to reset password")));
+            assertTrue(throttle.admit(event("CRITICAL", "Unexpected error occurred")));
+        }
+    }
+
+    @Test
+    void admit_ShouldRateLimit_BeyondBurst() {
+        LogThrottle throttle = new LogThrottle(meterRegistry, "", "", 1, 2, 10000);
+
+        assertTrue(throttle.admit(event("INFO", "Login Successful")));
+        assertTrue(throttle.admit(event("INFO", "Login Successful")));
+        assertFalse(throttle.admit(event("INFO", "Login Successful")));
+        assertEquals(1.0, meterRegistry.get("auth.logs.suppressed").tag("reason", "rate_limited").counter().count());
+    }
+
+    @Test
+    void drainSummaries_ShouldReportOneEventPerSuppressedMessage_AndReset() {
+        LogThrottle throttle = new LogThrottle(meterRegistry, "INFO=0", "", 0, 0, 5000);
+        for (int i = 0; i < 5; i++) {
+            throttle.admit(event("INFO", "Login Successful"));
+        }
+        throttle.admit(event("INFO", "Reset email event queued"));
+
+        List<LogEvent> summaries = throttle.drainSummaries();
+
+        assertEquals(2, summaries.size());
+        LogEvent login = summaries.stream().filter(e -> "Login Successful".equals(e.message())).findFirst().orElseThrow();
+        assertEquals(5L, login.detail("suppressed"));
+        assertEquals(5000L, login.detail("intervalMs"));
+        assertTrue(throttle.drainSummaries().isEmpty());
+    }
+
+    @Test
+    void parseRates_ShouldRejectOutOfRangeValues() {
+        assertThrows(IllegalStateException.class, () -> LogThrottle.parseRates("INFO=1.5"));
+        assertThrows(IllegalStateException.class, () -> LogThrottle.parseRates("INFO"));
+    }
+}
@@ -0,0 +1,47 @@
+package com.gtu.auth_service.infrastructure.logs;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TokenBucketTest {
+
+    private final AtomicLong now = new AtomicLong(1_000_000_000L);
+
+    @Test
+    void tryAcquire_ShouldAllowBurst_ThenReject() {
+        TokenBucket bucket = new TokenBucket(10, 3, now::get);
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_ShouldRefill_AtConfiguredRate() {
+        TokenBucket bucket = new TokenBucket(10, 1, now::get);
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+
+        now.addAndGet(TimeUnit.MILLISECONDS.toNanos(100));
+
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+
+    @Test
+    void tryAcquire_ShouldNotAccumulateBeyondBurst_WhenIdle() {
+        TokenBucket bucket = new TokenBucket(10, 2, now::get);
+
+        now.addAndGet(TimeUnit.SECONDS.toNanos(60));
+
+        assertTrue(bucket.tryAcquire());
+        assertTrue(bucket.tryAcquire());
+        assertFalse(bucket.tryAcquire());
+    }
+}
@@ -0,0 +1,27 @@
+package com.gtu.auth_service.infrastructure.mappers;
+
+import com.gtu.auth_service.domain.model.AccountType;
+import com.gtu.auth_service.domain.model.KnownAccount;
+import com.gtu.auth_service.infrastructure.entities.KnownAccountEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class KnownAccountMapperTest {
+
+    @Test
+    void toDomain_ShouldMapEntityToKnownAccount() {
+        KnownAccountEntity entity = new KnownAccountEntity(1L, "john@example.com", AccountType.USER, 2L, "John",
+                "DRIVER", "hash", LocalDateTime.now());
+        KnownAccount account = KnownAccountMapper.toDomain(entity);
+
+        assertEquals("john@example.com", account.getEmail());
+        assertEquals(AccountType.USER, account.getAccountType());
+        assertEquals(2L, account.getAccountId());
+        assertEquals("DRIVER", account.getRole());
+        assertEquals("hash", account.getPasswordHash());
+        assertEquals(entity.getCapturedAt(), account.getCapturedAt());
+    }
+}
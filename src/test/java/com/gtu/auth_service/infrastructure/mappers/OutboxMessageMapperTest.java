@@ -0,0 +1,44 @@
+package com.gtu.auth_service.infrastructure.mappers;
+
+import com.gtu.auth_service.domain.model.OutboxMessage;
+import com.gtu.auth_service.domain.model.OutboxStatus;
+import com.gtu.auth_service.infrastructure.entities.OutboxMessageEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class OutboxMessageMapperTest {
+
+    @Test
+    void toEntity_ShouldMapOutboxMessageToEntity() {
+        byte[] payload = "{\"to\":\"a@b.com\"}".getBytes();
+        OutboxMessage message = new OutboxMessage("exchange", "routing", payload, "application/json");
+        OutboxMessageEntity entity = OutboxMessageMapper.toEntity(message);
+
+        assertEquals("exchange", entity.getExchange());
+        assertEquals("routing", entity.getRoutingKey());
+        assertArrayEquals(payload, entity.getPayload());
+        assertEquals("application/json", entity.getContentType());
+        assertEquals(OutboxStatus.PENDING, entity.getStatus());
+        assertEquals(0, entity.getAttempts());
+        assertEquals(message.getCreatedAt(), entity.getNextAttemptAt());
+    }
+
+    @Test
+    void toDomain_ShouldMapEntityToOutboxMessage() {
+        LocalDateTime now = LocalDateTime.now();
+        OutboxMessageEntity entity = new OutboxMessageEntity(1L, "exchange", "routing", new byte[] {1, 2},
+                "application/cbor",
+                OutboxStatus.FAILED, 3, now, now, "timeout");
+        OutboxMessage message = OutboxMessageMapper.toDomain(entity);
+
+        assertEquals(1L, message.getId());
+        assertEquals(OutboxStatus.FAILED, message.getStatus());
+        assertEquals("application/cbor", message.getContentType());
+        assertEquals(3, message.getAttempts());
+        assertEquals("timeout", message.getLastError());
+    }
+}
@@ -0,0 +1,40 @@
+package com.gtu.auth_service.infrastructure.mappers;
+
+import com.gtu.auth_service.domain.model.RefreshToken;
+import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.infrastructure.entities.RefreshTokenEntity;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class RefreshTokenMapperTest {
+
+    @Test
+    void toEntity_ShouldMapRefreshTokenToEntity() {
+        RefreshToken refreshToken = new RefreshToken(1L, "hash123", "family-1", 2L, "email@example.com",
+                "John", Role.ADMIN, LocalDateTime.now(), true, false);
+        RefreshTokenEntity entity = RefreshTokenMapper.toEntity(refreshToken);
+
+        assertEquals(1L, entity.getId());
+        assertEquals("hash123", entity.getTokenHash());
+        assertEquals("family-1", entity.getFamilyId());
+        assertEquals(2L, entity.getUserId());
+        assertEquals(Role.ADMIN, entity.getRole());
+        assertEquals(refreshToken.getExpiryDate(), entity.getExpiryDate());
+        assertEquals(true, entity.isUsed());
+    }
+
+    @Test
+    void toDomain_ShouldMapEntityToRefreshToken() {
+        RefreshTokenEntity entity = new RefreshTokenEntity(1L, "hash123", "family-1", 2L, "email@example.com",
+                "John", Role.PASSENGER, LocalDateTime.now(), false, true);
+        RefreshToken refreshToken = RefreshTokenMapper.toDomain(entity);
+
+        assertEquals("hash123", refreshToken.getTokenHash());
+        assertEquals("email@example.com", refreshToken.getEmail());
+        assertEquals(Role.PASSENGER, refreshToken.getRole());
+        assertEquals(true, refreshToken.isRevoked());
+    }
+}
@@ -1,5 +1,6 @@
 package com.gtu.auth_service.infrastructure.mappers;
 
+import com.gtu.auth_service.domain.model.AccountType;
 import com.gtu.auth_service.domain.model.ResetToken;
 import com.gtu.auth_service.infrastructure.entities.ResetTokenEntity;
 import org.junit.jupiter.api.Test;
@@ -7,6 +8,7 @@ import org.junit.jupiter.api.Test;
 import java.time.LocalDateTime;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 
 class ResetTokenMapperTest {
 
@@ -33,4 +35,22 @@ class ResetTokenMapperTest {
         assertEquals(entity.getExpiryDate(), resetToken.getExpiryDate());
         assertEquals(false, resetToken.isUsed());
     }
-}
\ No newline at end of file
+
+    @Test
+    void toEntity_ShouldMapAccountReference() {
+        ResetToken resetToken = new ResetToken(1L, "token123", "email@example.com", LocalDateTime.now(), false, 7L, AccountType.USER);
+        ResetTokenEntity entity = ResetTokenMapper.toEntity(resetToken);
+
+        assertEquals(7L, entity.getAccountId());
+        assertEquals(AccountType.USER, entity.getAccountType());
+    }
+
+    @Test
+    void toDomain_ShouldLeaveAccountReferenceEmpty_ForLegacyRows() {
+        ResetTokenEntity entity = new ResetTokenEntity(1L, "token123", "email@example.com", LocalDateTime.now(), false);
+        ResetToken resetToken = ResetTokenMapper.toDomain(entity);
+
+        assertNull(resetToken.getAccountId());
+        assertNull(resetToken.getAccountType());
+    }
+}
@@ -0,0 +1,67 @@
+package com.gtu.auth_service.infrastructure.messaging;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gtu.auth_service.domain.model.Role;
+import com.gtu.auth_service.infrastructure.messaging.event.ResetPasswordEvent;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.core.MessageProperties;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EventMessageConverterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ResetPasswordEvent event = new ResetPasswordEvent("user@gtu.com", Role.DRIVER, "http://reset/base?token=abc");
+
+    private static Message message(byte[] body, String contentType) {
+        MessageProperties properties = new MessageProperties();
+        properties.setContentType(contentType);
+        return new Message(body, properties);
+    }
+
+    @ParameterizedTest
+    @EnumSource(WireFormat.class)
+    void serialize_ShouldRoundTrip_AndAdvertiseContentType(WireFormat format) {
+        EventMessageConverter converter = new EventMessageConverter(objectMapper, format);
+
+        Message message = message(converter.serialize(event), converter.contentType());
+        ResetPasswordEvent read = converter.deserialize(message, ResetPasswordEvent.class);
+
+        assertEquals(format.contentType(), converter.contentType());
+        assertEquals("user@gtu.com", read.getTo());
+        assertEquals(Role.DRIVER, read.getRole());
+        assertEquals("http://reset/base?token=abc", read.getResetLink());
+    }
+
+    @Test
+    void deserialize_ShouldNegotiateByContentType_RegardlessOfConfiguredFormat() {
+        EventMessageConverter cbor = new EventMessageConverter(objectMapper, WireFormat.CBOR);
+        EventMessageConverter json = new EventMessageConverter(objectMapper, WireFormat.JSON);
+
+        JsonNode read = json.deserialize(message(cbor.serialize(event), cbor.contentType()), JsonNode.class);
+
+        assertEquals("user@gtu.com", read.get("to").asText());
+    }
+
+    @Test
+    void serialize_ShouldProduceSmallerPayload_ForBinaryFormats() {
+        int jsonSize = new EventMessageConverter(objectMapper, WireFormat.JSON).serialize(event).length;
+        int smileSize = new EventMessageConverter(objectMapper, WireFormat.SMILE).serialize(event).length;
+        int cborSize = new EventMessageConverter(objectMapper, WireFormat.CBOR).serialize(event).length;
+
+        assertTrue(smileSize < jsonSize);
+        assertTrue(cborSize < jsonSize);
+    }
+
+    @Test
+    void fromContentType_ShouldDefaultToJson() {
+        assertEquals(WireFormat.JSON, WireFormat.fromContentType(null));
+        assertEquals(WireFormat.JSON, WireFormat.fromContentType("text/plain"));
+        assertEquals(WireFormat.SMILE, WireFormat.fromContentType("application/x-jackson-smile"));
+    }
+}
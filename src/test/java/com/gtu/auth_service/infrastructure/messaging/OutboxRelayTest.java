@@ -0,0 +1,125 @@
+package com.gtu.auth_service.infrastructure.messaging;
+
+import com.gtu.auth_service.domain.model.OutboxMessage;
+import com.gtu.auth_service.domain.repository.OutboxRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mock;
+import org.mockito.MockitoAnnotations;
+import org.springframework.amqp.AmqpConnectException;
+import org.springframework.amqp.core.Message;
+import org.springframework.amqp.rabbit.core.RabbitOperations;
+import org.springframework.amqp.rabbit.core.RabbitOperations.OperationsCallback;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+class OutboxRelayTest {
+
+    @Mock
+    private OutboxRepository outboxRepository;
+
+    @Mock
+    private RabbitOperations rabbitOperations;
+
+    private SimpleMeterRegistry meterRegistry;
+    private OutboxRelay outboxRelay;
+
+    @BeforeEach
+    void setUp() {
+        MockitoAnnotations.openMocks(this);
+        when(rabbitOperations.invoke(any())).thenAnswer(invocation ->
+                invocation.<OperationsCallback<?>>getArgument(0).doInRabbit(rabbitOperations));
+        meterRegistry = new SimpleMeterRegistry();
+        outboxRelay = new OutboxRelay(outboxRepository, rabbitOperations, meterRegistry, 2, 1000, 1000, 60000, 3);
+    }
+
+    private static OutboxMessage message(long id, int attempts) {
+        OutboxMessage message = new OutboxMessage("reset-password.exchange", "reset-password.routingkey",
+                ("{\"id\":" + id + "}").getBytes(), "application/json");
+        message.setId(id);
+        message.setAttempts(attempts);
+        return message;
+    }
+
+    @Test
+    void relayBatch_ShouldDeleteMessages_WhenBrokerConfirms() {
+        when(outboxRepository.findDue(any(LocalDateTime.class), eq(2))).thenReturn(List.of(message(1L, 0), message(2L, 0)));
+        when(rabbitOperations.waitForConfirms(1000)).thenReturn(true);
+
+        outboxRelay.relayBatch();
+
+        verify(rabbitOperations, times(1)).invoke(any());
+        verify(rabbitOperations).send(eq("reset-password.exchange"), eq("reset-password.routingkey"),
+                argThat((Message m) -> "1".equals(m.getMessageProperties().getMessageId())
+                        && "application/json".equals(m.getMessageProperties().getContentType())));
+        verify(outboxRepository).deleteAll(List.of(1L, 2L));
+        assertEquals(2.0, meterRegistry.get("auth.outbox.published").counter().count());
+    }
+
+    @Test
+    void relayBatch_ShouldScheduleRetry_WhenBrokerDoesNotConfirm() {
+        when(outboxRepository.findDue(any(LocalDateTime.class), eq(2))).thenReturn(List.of(message(1L, 0)));
+        when(rabbitOperations.waitForConfirms(1000)).thenReturn(false);
+
+        outboxRelay.relayBatch();
+
+        verify(outboxRepository, never()).deleteAll(any());
+        verify(outboxRepository).scheduleRetry(eq(1L), eq(1), any(LocalDateTime.class), anyString());
+        assertEquals(1.0, meterRegistry.get("auth.outbox.retried").counter().count());
+    }
+
+    @Test
+    void relayBatch_ShouldScheduleRetry_WhenBrokerIsUnreachable() {
+        when(outboxRepository.findDue(any(LocalDateTime.class), eq(2))).thenReturn(List.of(message(1L, 1)));
+        doThrow(new AmqpConnectException(new RuntimeException("Connection refused")))
+                .when(rabbitOperations).send(anyString(), anyString(), any(Message.class));
+
+        outboxRelay.relayBatch();
+
+        verify(outboxRepository).scheduleRetry(eq(1L), eq(2), any(LocalDateTime.class), anyString());
+    }
+
+    @Test
+    void relayBatch_ShouldMarkFailed_AfterMaxAttempts() {
+        when(outboxRepository.findDue(any(LocalDateTime.class), eq(2))).thenReturn(List.of(message(1L, 2)));
+        when(rabbitOperations.waitForConfirms(1000)).thenReturn(false);
+
+        outboxRelay.relayBatch();
+
+        verify(outboxRepository).markFailed(eq(1L), eq(3), anyString());
+        verify(outboxRepository, never()).scheduleRetry(anyLong(), anyInt(), any(), any());
+        assertEquals(1.0, meterRegistry.get("auth.outbox.failed").counter().count());
+    }
+
+    @Test
+    void relay_ShouldKeepDraining_WhileBatchesAreFull() {
+        when(outboxRepository.findDue(any(LocalDateTime.class), eq(2)))
+                .thenReturn(List.of(message(1L, 0), message(2L, 0)))
+                .thenReturn(List.of(message(3L, 0)));
+        when(rabbitOperations.waitForConfirms(1000)).thenReturn(true);
+
+        outboxRelay.relay();
+
+        verify(outboxRepository, times(2)).findDue(any(LocalDateTime.class), eq(2));
+        assertEquals(3.0, meterRegistry.get("auth.outbox.published").counter().count());
+    }
+
+    @Test
+    void backoffMs_ShouldGrowExponentially_UpToTheCap() {
+        assertEquals(1000, outboxRelay.backoffMs(1));
+        assertEquals(2000, outboxRelay.backoffMs(2));
+        assertEquals(8000, outboxRelay.backoffMs(4));
+        assertEquals(60000, outboxRelay.backoffMs(10));
+    }
+}
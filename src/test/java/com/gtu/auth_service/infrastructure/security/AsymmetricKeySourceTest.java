@@ -0,0 +1,92 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class AsymmetricKeySourceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static KeyPair ecKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
+
+    private static String pem(String type, byte[] der) {
+        return "-----BEGIN " + type + "-----\n"
+                + Base64.getMimeEncoder().encodeToString(der)
+                + "\n-----END " + type + "-----\n";
+    }
+
+    private AsymmetricKeySource writeKeys(String algorithm, KeyPair privatePair, KeyPair publicPair) throws Exception {
+        Path privateFile = tempDir.resolve("jwt-private.pem");
+        Path publicFile = tempDir.resolve("jwt-public.pem");
+        Files.writeString(privateFile, pem("PRIVATE KEY", privatePair.getPrivate().getEncoded()));
+        Files.writeString(publicFile, pem("PUBLIC KEY", publicPair.getPublic().getEncoded()));
+        return new AsymmetricKeySource(algorithm, privateFile.toString(), publicFile.toString());
+    }
+
+    @Test
+    void parse_ShouldLoadEs256KeyPair_FromPemFiles() throws Exception {
+        KeyPair keyPair = ecKeyPair();
+        AsymmetricKeySource source = writeKeys("ES256", keyPair, keyPair);
+
+        List<JwtKeyRing.SigningKey> keys = source.parse(source.read());
+
+        assertEquals(1, keys.size());
+        assertEquals("ES256", keys.get(0).algorithm());
+        assertEquals(keyPair.getPublic(), keys.get(0).verificationKey());
+        assertEquals(JwtKeyRing.keyId(keyPair.getPublic().getEncoded()), keys.get(0).kid());
+    }
+
+    @Test
+    void parse_ShouldLoadEd25519KeyPair_FromPemFiles() throws Exception {
+        KeyPair keyPair = KeyPairGenerator.getInstance("Ed25519").generateKeyPair();
+        AsymmetricKeySource source = writeKeys("EdDSA", keyPair, keyPair);
+
+        List<JwtKeyRing.SigningKey> keys = source.parse(source.read());
+
+        assertEquals("EdDSA", keys.get(0).algorithm());
+        assertEquals(keyPair.getPublic(), keys.get(0).verificationKey());
+    }
+
+    @Test
+    void parse_ShouldFail_WhenPublicKeyDoesNotMatchPrivateKey() throws Exception {
+        AsymmetricKeySource source = writeKeys("ES256", ecKeyPair(), ecKeyPair());
+        String raw = source.read();
+
+        assertThrows(IllegalStateException.class, () -> source.parse(raw));
+    }
+
+    @Test
+    void read_ShouldFail_WhenOnlyOneKeyFileIsConfigured() {
+        AsymmetricKeySource source = new AsymmetricKeySource("ES256", tempDir.resolve("jwt-private.pem").toString(), "");
+
+        assertThrows(IllegalStateException.class, source::read);
+    }
+
+    @Test
+    void read_ShouldFail_WhenNoKeyFilesAreConfigured() {
+        AsymmetricKeySource source = new AsymmetricKeySource("EdDSA", "", "");
+
+        assertThrows(IllegalStateException.class, source::read);
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenAlgorithmIsUnsupported() {
+        assertThrows(IllegalStateException.class, () -> new AsymmetricKeySource("RS256", "", ""));
+    }
+}
@@ -0,0 +1,153 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JwtKeyRingTest {
+
+    private static final String KEY_A = encode("testSecretKeyForJWTtestSecretKeyForJWT");
+    private static final String KEY_B = encode("anotherSecretKeyForJWTanotherSecretKey");
+    private static final long RETENTION_MS = 30L * 60000;
+
+    @TempDir
+    Path tempDir;
+
+    private final MutableClock clock = new MutableClock(Instant.parse("2025-01-01T00:00:00Z"));
+
+    private static String encode(String raw) {
+        return Base64.getEncoder().encodeToString(raw.getBytes());
+    }
+
+    private JwtKeyRing keyRingFromFile(Path secretFile) {
+        return new JwtKeyRing(new HmacKeySource("", secretFile.toString()), RETENTION_MS, clock);
+    }
+
+    @Test
+    void activeKey_ShouldReturnSameInstance_AcrossCalls() {
+        JwtKeyRing keyRing = new JwtKeyRing(new HmacKeySource(KEY_A, ""), RETENTION_MS);
+
+        assertSame(keyRing.activeKey(), keyRing.activeKey());
+    }
+
+    @Test
+    void activeKey_ShouldDeriveStableKid_FromKeyMaterial() {
+        JwtKeyRing first = new JwtKeyRing(new HmacKeySource(KEY_A, ""), RETENTION_MS);
+        JwtKeyRing second = new JwtKeyRing(new HmacKeySource(KEY_A, ""), RETENTION_MS);
+        JwtKeyRing other = new JwtKeyRing(new HmacKeySource(KEY_B, ""), RETENTION_MS);
+
+        assertEquals(first.activeKey().kid(), second.activeKey().kid());
+        assertNotEquals(first.activeKey().kid(), other.activeKey().kid());
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenSecretIsMissing() {
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(new HmacKeySource("", ""), RETENTION_MS));
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenSecretIsTooShort() {
+        String shortKey = encode("short-secret");
+
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(new HmacKeySource(shortKey, ""), RETENTION_MS));
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenSecretIsNotBase64() {
+        assertThrows(IllegalStateException.class, () -> new JwtKeyRing(new HmacKeySource("test-secret", ""), RETENTION_MS));
+    }
+
+    @Test
+    void constructor_ShouldSignWithFirstKey_AndVerifyWithAll_WhenSeveralKeysAreListed() {
+        JwtKeyRing keyRing = new JwtKeyRing(new HmacKeySource(KEY_B + "," + KEY_A, ""), RETENTION_MS);
+        String kidA = new JwtKeyRing(new HmacKeySource(KEY_A, ""), RETENTION_MS).activeKey().kid();
+
+        assertArrayEquals(Base64.getDecoder().decode(KEY_B), keyRing.activeKey().signingKey().getEncoded());
+        assertTrue(keyRing.findKey(kidA).isPresent());
+    }
+
+    @Test
+    void reload_ShouldRotateActiveKey_AndRetainPreviousKeyForVerification() throws Exception {
+        Path secretFile = tempDir.resolve("jwt.secret");
+        Files.writeString(secretFile, KEY_A);
+        JwtKeyRing keyRing = keyRingFromFile(secretFile);
+        String previousKid = keyRing.activeKey().kid();
+
+        Files.writeString(secretFile, KEY_B);
+        keyRing.reload();
+
+        assertNotEquals(previousKid, keyRing.activeKey().kid());
+        assertArrayEquals(Base64.getDecoder().decode(KEY_B), keyRing.activeKey().signingKey().getEncoded());
+        assertTrue(keyRing.findKey(previousKid).isPresent());
+    }
+
+    @Test
+    void findKey_ShouldDropRetiredKey_AfterRetentionWindow() throws Exception {
+        Path secretFile = tempDir.resolve("jwt.secret");
+        Files.writeString(secretFile, KEY_A);
+        JwtKeyRing keyRing = keyRingFromFile(secretFile);
+        String previousKid = keyRing.activeKey().kid();
+
+        Files.writeString(secretFile, KEY_B);
+        keyRing.reload();
+        clock.advance(Duration.ofMillis(RETENTION_MS + 1));
+
+        assertFalse(keyRing.findKey(previousKid).isPresent());
+    }
+
+    @Test
+    void reload_ShouldKeepCurrentKeys_WhenNewSecretIsInvalid() throws Exception {
+        Path secretFile = tempDir.resolve("jwt.secret");
+        Files.writeString(secretFile, KEY_A);
+        JwtKeyRing keyRing = keyRingFromFile(secretFile);
+        JwtKeyRing.SigningKey before = keyRing.activeKey();
+
+        Files.writeString(secretFile, encode("short-secret"));
+        keyRing.reload();
+
+        assertSame(before, keyRing.activeKey());
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        private MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,77 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.Pbkdf2PasswordEncoder;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiFormatPasswordEncoderTest {
+
+    private final MultiFormatPasswordEncoder encoder = new MultiFormatPasswordEncoder(MultiFormatPasswordEncoder.BCRYPT, 6);
+
+    @Test
+    void matches_ShouldAcceptLegacyUnprefixedBCryptHash() {
+        String legacy = new BCryptPasswordEncoder(6).encode("password123");
+
+        assertTrue(encoder.matches("password123", legacy));
+        assertFalse(encoder.matches("wrongpass", legacy));
+    }
+
+    @Test
+    void matches_ShouldAcceptPrefixedPbkdf2Hash() {
+        String pbkdf2 = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode("password123");
+
+        assertTrue(encoder.matches("password123", pbkdf2));
+    }
+
+    @Test
+    void matches_ShouldReturnFalse_WhenStoredHashIsMissing() {
+        assertFalse(encoder.matches(null, null));
+    }
+
+    @Test
+    void encode_ShouldPrefixWithPreferredAlgorithm() {
+        String encoded = encoder.encode("password123");
+
+        assertTrue(encoded.startsWith("{bcrypt}"));
+        assertTrue(encoder.matches("password123", encoded));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldFlagWeakerBCryptCost() {
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(4).encode("password123")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(6).encode("password123")));
+    }
+
+    @Test
+    void upgradeEncoding_ShouldFlagNonPreferredAlgorithm() {
+        String pbkdf2 = "{pbkdf2}" + Pbkdf2PasswordEncoder.defaultsForSpringSecurity_v5_8().encode("password123");
+
+        assertTrue(encoder.upgradeEncoding(pbkdf2));
+    }
+
+    @Test
+    void algorithmOf_ShouldDetectPrefixAndLegacyFormats() {
+        assertEquals("pbkdf2", MultiFormatPasswordEncoder.algorithmOf("{pbkdf2}abc"));
+        assertEquals("bcrypt", MultiFormatPasswordEncoder.algorithmOf(new BCryptPasswordEncoder(4).encode("x")));
+        assertNull(MultiFormatPasswordEncoder.algorithmOf("plaintext"));
+    }
+
+    @Test
+    void constructor_ShouldFail_ForUnsupportedAlgorithm() {
+        assertThrows(IllegalStateException.class, () -> new MultiFormatPasswordEncoder("argon2", 10));
+    }
+
+    @Test
+    void calibrateBCryptCost_ShouldStayWithinBounds() {
+        int cost = MultiFormatPasswordEncoder.calibrateBCryptCost(50, 10, 14);
+
+        assertTrue(cost >= 10 && cost <= 14);
+        assertEquals(4, MultiFormatPasswordEncoder.calibrateBCryptCost(1, 4, 4));
+    }
+}
@@ -1,21 +1,53 @@
 package com.gtu.auth_service.infrastructure.security;
 
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
-import org.mockito.MockitoAnnotations;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
 
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class PasswordValidatorTest {
-    @InjectMocks
+    private SimpleMeterRegistry meterRegistry;
     private PasswordValidator passwordValidator;
+    private final CountDownLatch release = new CountDownLatch(1);
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        meterRegistry = new SimpleMeterRegistry();
+        passwordValidator = new PasswordValidator(new MultiFormatPasswordEncoder(MultiFormatPasswordEncoder.BCRYPT, 10), meterRegistry, 2, 4, 5000, 1);
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        passwordValidator.shutdown();
+    }
+
+    private PasswordValidator blockedValidator(long timeoutMs) throws InterruptedException {
+        meterRegistry = new SimpleMeterRegistry();
+        ThreadPoolExecutor executor = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(1));
+        CountDownLatch started = new CountDownLatch(1);
+        executor.execute(() -> {
+            started.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        started.await();
+        return new PasswordValidator(new MultiFormatPasswordEncoder(MultiFormatPasswordEncoder.BCRYPT, 4), executor, meterRegistry, timeoutMs, 3);
     }
 
     @Test
@@ -41,4 +73,59 @@ class PasswordValidatorTest {
 
         assertFalse(passwordValidator.validate(rawPassword, encodedPassword));
     }
+
+    @Test
+    void validate_ShouldRecordQueueWait_ForEachVerification() {
+        String encodedPassword = new BCryptPasswordEncoder(4).encode("password123");
+
+        passwordValidator.validate("password123", encodedPassword);
+
+        assertEquals(1, meterRegistry.get("auth.password.queue.wait").timer().count());
+    }
+
+    @Test
+    void validate_ShouldRejectFast_WhenQueueIsFull() throws InterruptedException {
+        PasswordValidator validator = blockedValidator(5000);
+        String encodedPassword = new BCryptPasswordEncoder(4).encode("password123");
+        Thread queued = new Thread(() -> validator.validate("password123", encodedPassword));
+        queued.start();
+        while (meterRegistry.get("auth.password.queue.depth").gauge().value() < 1) {
+            Thread.onSpinWait();
+        }
+
+        ServiceUnavailableException ex = assertThrows(ServiceUnavailableException.class,
+                () -> validator.validate("password123", encodedPassword));
+
+        assertEquals(503, ex.getStatusCode());
+        assertEquals(3, ex.getRetryAfterSeconds());
+        assertEquals(1.0, meterRegistry.get("auth.password.rejected").counter().count());
+        release.countDown();
+        queued.join();
+        validator.shutdown();
+    }
+
+    @Test
+    void validate_ShouldThrowServiceUnavailable_WhenWaitExceedsTimeout() throws InterruptedException {
+        PasswordValidator validator = blockedValidator(50);
+        String encodedPassword = new BCryptPasswordEncoder(4).encode("password123");
+
+        assertThrows(ServiceUnavailableException.class, () -> validator.validate("password123", encodedPassword));
+        validator.shutdown();
+    }
+
+    @Test
+    void validate_ShouldCountUpgrade_WhenStoredHashUsesWeakerCost() {
+        String encodedPassword = new BCryptPasswordEncoder(4).encode("password123");
+
+        assertTrue(passwordValidator.validate("password123", encodedPassword));
+
+        assertEquals(1.0, meterRegistry.get("auth.password.upgrade.needed").counter().count());
+    }
+
+    @Test
+    void needsUpgrade_ShouldReturnFalse_WhenStoredHashMatchesCurrentCost() {
+        String encodedPassword = new BCryptPasswordEncoder(10).encode("password123");
+
+        assertFalse(passwordValidator.needsUpgrade(encodedPassword));
+    }
 }
@@ -0,0 +1,97 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import org.junit.jupiter.api.Test;
+
+import com.gtu.auth_service.domain.model.AccountType;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResetTokenSignerTest {
+
+    private static final String SECRET = encode("resetTokenSigningSecretForTests!");
+    private static final String OTHER_SECRET = encode("anotherResetTokenSigningSecret!!");
+    private static final long TTL_MS = 15L * 60000;
+    private static final Instant NOW = Instant.parse("2025-01-01T00:00:00Z");
+
+    private static String encode(String raw) {
+        return Base64.getEncoder().encodeToString(raw.getBytes());
+    }
+
+    private static ResetTokenSigner signerAt(String secret, Instant now) {
+        return new ResetTokenSigner("stateless", secret, TTL_MS, Clock.fixed(now, ZoneOffset.UTC));
+    }
+
+    @Test
+    void verify_ShouldReturnIssuedClaims() {
+        ResetTokenSigner signer = signerAt(SECRET, NOW);
+        String token = signer.issue(AccountType.PASSENGER, 42L, "passenger@gtu.com", "$2a$10$hash");
+
+        ResetTokenSigner.Claims claims = signer.verify(token).orElseThrow();
+
+        assertEquals(AccountType.PASSENGER, claims.accountType());
+        assertEquals(42L, claims.accountId());
+        assertEquals("passenger@gtu.com", claims.email());
+        assertEquals(NOW.plusMillis(TTL_MS), claims.expiresAt());
+        assertTrue(signer.matchesPassword(claims, "$2a$10$hash"));
+        assertFalse(signer.matchesPassword(claims, "$2a$10$changed"));
+    }
+
+    @Test
+    void verify_ShouldReject_WhenTokenIsExpired() {
+        String token = signerAt(SECRET, NOW).issue(AccountType.USER, 1L, "user@gtu.com", "hash");
+
+        assertTrue(signerAt(SECRET, NOW.plus(Duration.ofMillis(TTL_MS))).verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_ShouldReject_WhenSignedWithAnotherSecret() {
+        String token = signerAt(OTHER_SECRET, NOW).issue(AccountType.USER, 1L, "user@gtu.com", "hash");
+
+        assertTrue(signerAt(SECRET, NOW).verify(token).isEmpty());
+    }
+
+    @Test
+    void verify_ShouldReject_WhenPayloadIsTampered() {
+        ResetTokenSigner signer = signerAt(SECRET, NOW);
+        String token = signer.issue(AccountType.USER, 1L, "user@gtu.com", "hash");
+        String forged = signer.issue(AccountType.USER, 2L, "admin@gtu.com", "hash");
+        String spliced = forged.substring(0, forged.indexOf('.')) + token.substring(token.indexOf('.'));
+
+        assertTrue(signer.verify(spliced).isEmpty());
+        assertTrue(signer.verify("not-base64!.x").isEmpty());
+    }
+
+    @Test
+    void claim_ShouldAdmitTokenOnce_UntilReleased() {
+        ResetTokenSigner signer = signerAt(SECRET, NOW);
+
+        assertTrue(signer.claim("token"));
+        assertFalse(signer.claim("token"));
+        signer.release("token");
+        assertTrue(signer.claim("token"));
+    }
+
+    @Test
+    void tableMode_ShouldNotTreatTokensAsSigned() {
+        ResetTokenSigner signer = new ResetTokenSigner("table", "", TTL_MS);
+
+        assertFalse(signer.isEnabled());
+        assertFalse(signer.isSigned("a.b"));
+        assertThrows(IllegalStateException.class, () -> signer.issue(AccountType.USER, 1L, "user@gtu.com", "hash"));
+    }
+
+    @Test
+    void constructor_ShouldFail_WhenStatelessSecretIsMissingOrShort() {
+        assertThrows(IllegalStateException.class, () -> new ResetTokenSigner("stateless", "", TTL_MS));
+        assertThrows(IllegalStateException.class, () -> new ResetTokenSigner("stateless", encode("short"), TTL_MS));
+    }
+}
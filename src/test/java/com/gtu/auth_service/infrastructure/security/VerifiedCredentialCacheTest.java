@@ -0,0 +1,50 @@
+package com.gtu.auth_service.infrastructure.security;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class VerifiedCredentialCacheTest {
+
+    private final VerifiedCredentialCache cache = new VerifiedCredentialCache(new SimpleMeterRegistry(), true, 60000, 100);
+
+    @Test
+    void isVerified_ShouldReturnTrue_ForSameCredentials() {
+        cache.markVerified("kiosk@example.com", "password123", "$2a$10$hash");
+
+        assertTrue(cache.isVerified("Kiosk@Example.com ", "password123", "$2a$10$hash"));
+    }
+
+    @Test
+    void isVerified_ShouldReturnFalse_WhenPasswordDiffers() {
+        cache.markVerified("kiosk@example.com", "password123", "$2a$10$hash");
+
+        assertFalse(cache.isVerified("kiosk@example.com", "wrongpass", "$2a$10$hash"));
+    }
+
+    @Test
+    void isVerified_ShouldReturnFalse_WhenStoredHashChanged() {
+        cache.markVerified("kiosk@example.com", "password123", "$2a$10$hash");
+
+        assertFalse(cache.isVerified("kiosk@example.com", "password123", "$2a$10$otherhash"));
+    }
+
+    @Test
+    void invalidate_ShouldForgetCredentials_ForEmail() {
+        cache.markVerified("kiosk@example.com", "password123", "$2a$10$hash");
+
+        cache.invalidate("kiosk@example.com");
+
+        assertFalse(cache.isVerified("kiosk@example.com", "password123", "$2a$10$hash"));
+    }
+
+    @Test
+    void isVerified_ShouldAlwaysReturnFalse_WhenDisabled() {
+        VerifiedCredentialCache disabled = new VerifiedCredentialCache(new SimpleMeterRegistry(), false, 60000, 100);
+        disabled.markVerified("kiosk@example.com", "password123", "$2a$10$hash");
+
+        assertFalse(disabled.isVerified("kiosk@example.com", "password123", "$2a$10$hash"));
+    }
+}
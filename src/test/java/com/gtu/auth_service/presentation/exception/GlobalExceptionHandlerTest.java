@@ -2,9 +2,12 @@ package com.gtu.auth_service.presentation.exception;
 
 import com.gtu.auth_service.application.dto.ErrorResponseDTO;
 import com.gtu.auth_service.domain.exception.GeneralException;
+import com.gtu.auth_service.domain.exception.ServiceUnavailableException;
+import com.gtu.auth_service.infrastructure.logs.LogEvent;
 import com.gtu.auth_service.infrastructure.logs.LogPublisher;
 import feign.FeignException;
 import feign.Request;
+import feign.RetryableException;
 import jakarta.servlet.http.HttpServletRequest;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -37,13 +40,19 @@ class GlobalExceptionHandlerTest {
         ReflectionTestUtils.setField(globalExceptionHandler, "serviceName", "auth-service");
     }
 
+    private static LogEvent logEvent(String level, String message) {
+        return argThat(event -> "auth-service".equals(event.service())
+                && level.equals(event.level())
+                && message.equals(event.message()));
+    }
+
     @Test
     void handleIllegalArgumentException_ShouldLogAndReturnUnauthorized() {
         IllegalArgumentException ex = new IllegalArgumentException("Invalid input");
 
         ResponseEntity<ErrorResponseDTO> response = globalExceptionHandler.handleIllegalArgumentException(ex);
 
-        verify(logPublisher, times(1)).sendLog(anyString(), eq("auth-service"), eq("WARN"), eq("Validation Error"), anyMap());
+        verify(logPublisher, times(1)).publish(logEvent("WARN", "Validation Error"));
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertEquals("Invalid input", response.getBody().message());
         assertEquals("Unauthorized", response.getBody().error());
@@ -55,7 +64,7 @@ class GlobalExceptionHandlerTest {
 
         ResponseEntity<ErrorResponseDTO> response = globalExceptionHandler.handleGeneralException(ex);
 
-        verify(logPublisher, times(1)).sendLog(anyString(), eq("auth-service"), matches("ERROR|CRITICAL"), eq("Unexpected error occurred"), anyMap());
+        verify(logPublisher, times(1)).publish(logEvent("ERROR", "Unexpected error occurred"));
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("An unexpected error occurred", response.getBody().message());
         assertEquals("Internal Server Error", response.getBody().error());
@@ -124,7 +133,7 @@ class GlobalExceptionHandlerTest {
 
         ResponseEntity<ErrorResponseDTO> response = globalExceptionHandler.handleIllegalArgumentException(ex);
 
-        verify(logPublisher, never()).sendLog(anyString(), anyString(), anyString(), anyString(), anyMap());
+        verify(logPublisher, never()).publish(any());
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertEquals("User not found", response.getBody().message());
     }
@@ -135,13 +144,7 @@ class GlobalExceptionHandlerTest {
 
         ResponseEntity<ErrorResponseDTO> response = globalExceptionHandler.handleGeneralException(ex);
 
-        verify(logPublisher, times(1)).sendLog(
-            anyString(),
-            eq("auth-service"),
-            eq("CRITICAL"),
-            eq("Unexpected error occurred"),
-            anyMap()
-        );
+        verify(logPublisher, times(1)).publish(logEvent("CRITICAL", "Unexpected error occurred"));
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("An unexpected error occurred", response.getBody().message());
@@ -154,16 +157,35 @@ class GlobalExceptionHandlerTest {
 
         ResponseEntity<ErrorResponseDTO> response = globalExceptionHandler.handleGeneralException(ex);
 
-        verify(logPublisher, times(1)).sendLog(
-            anyString(),
-            eq("auth-service"),
-            eq("CRITICAL"),
-            eq("Unexpected error occurred"),
-            anyMap()
-        );
+        verify(logPublisher, times(1)).publish(logEvent("CRITICAL", "Unexpected error occurred"));
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertEquals("An unexpected error occurred", response.getBody().message());
         assertEquals("Internal Server Error", response.getBody().error());
     }
+
+    @Test
+    void handleServiceUnavailable_ShouldReturn503_WithRetryAfterHeader() {
+        ServiceUnavailableException ex = new ServiceUnavailableException("Password verification is busy, please retry later", 2);
+
+        ResponseEntity<ErrorResponseDTO> response = globalExceptionHandler.handleServiceUnavailable(ex);
+
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("2", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Service Unavailable", response.getBody().error());
+        verifyNoInteractions(logPublisher);
+    }
+
+    @Test
+    void handleFeignTimeout_ShouldReturn503_WithRetryAfterHeader() {
+        RetryableException ex = mock(RetryableException.class);
+        when(ex.getMessage()).thenReturn("Read timed out executing GET http://gtu-users-management-service/internal/users");
+
+        ResponseEntity<ErrorResponseDTO> response = globalExceptionHandler.handleFeignTimeout(ex);
+
+        verify(logPublisher, times(1)).publish(logEvent("ERROR", "External service did not respond"));
+        assertEquals(HttpStatus.SERVICE_UNAVAILABLE, response.getStatusCode());
+        assertEquals("1", response.getHeaders().getFirst("Retry-After"));
+        assertEquals("Service Unavailable", response.getBody().error());
+    }
 }
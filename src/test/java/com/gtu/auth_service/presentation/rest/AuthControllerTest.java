@@ -1,13 +1,26 @@
 package com.gtu.auth_service.presentation.rest;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.gtu.auth_service.application.dto.IntrospectionResponseDTO;
+import com.gtu.auth_service.application.dto.JwkDTO;
+import com.gtu.auth_service.application.dto.JwkSetDTO;
 import com.gtu.auth_service.application.dto.LoginRequestDTO;
 import com.gtu.auth_service.application.dto.LoginResponseDTO;
 import com.gtu.auth_service.application.dto.RegisterRequestDTO;
+import com.gtu.auth_service.application.service.AuthServiceImpl;
 import com.gtu.auth_service.application.usecase.AuthUseCase;
 import com.gtu.auth_service.presentation.exception.GlobalExceptionHandler;
+import com.gtu.auth_service.infrastructure.client.AccountResolver;
+import com.gtu.auth_service.infrastructure.client.LastKnownAccountStore;
+import com.gtu.auth_service.infrastructure.client.PassengerClient;
+import com.gtu.auth_service.infrastructure.client.UserClient;
+import com.gtu.auth_service.infrastructure.client.UserLookupCache;
 import com.gtu.auth_service.infrastructure.logs.LogPublisher;
 
+import feign.Request;
+import feign.RetryableException;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -21,9 +34,13 @@ import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import static org.mockito.Mockito.doNothing;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.List;
 import java.util.Map;
 
 @ExtendWith(MockitoExtension.class)
@@ -85,6 +102,34 @@ class AuthControllerTest {
                                 .andExpect(jsonPath("$.message").value("User not found"));
         }
 
+        @Test
+        void login_ShouldReturnServiceUnavailable_WhenUserLookupTimesOut() throws Exception {
+                UserClient userClient = Mockito.mock(UserClient.class);
+                PassengerClient passengerClient = Mockito.mock(PassengerClient.class);
+                SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+                LastKnownAccountStore lastKnownAccounts = LastKnownAccountStore.inMemory(meterRegistry, 3600000);
+                UserLookupCache userLookupCache = new UserLookupCache(userClient, passengerClient, meterRegistry,
+                                lastKnownAccounts, 60000, 30000, 100);
+                AuthServiceImpl authService = new AuthServiceImpl(new AccountResolver(userLookupCache, 2, 5000),
+                                passengerClient, logPublisher, lastKnownAccounts);
+                AuthUseCase realUseCase = new AuthUseCase(authService, null, null, null, null, null);
+                MockMvc loginMvc = MockMvcBuilders.standaloneSetup(new AuthController(realUseCase))
+                                .setControllerAdvice(new GlobalExceptionHandler((Mockito.mock(LogPublisher.class))))
+                                .setMessageConverters(new MappingJackson2HttpMessageConverter(objectMapper))
+                                .build();
+                Mockito.when(userClient.getUserByEmail("john@example.com")).thenThrow(new RetryableException(-1,
+                                "Read timed out", Request.HttpMethod.GET, (Long) null,
+                                Request.create(Request.HttpMethod.GET, "/internal/users", Collections.emptyMap(), null,
+                                                StandardCharsets.UTF_8, null)));
+
+                loginMvc.perform(post("/login")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(new LoginRequestDTO("john@example.com", "password123"))))
+                                .andExpect(status().isServiceUnavailable())
+                                .andExpect(header().string("Retry-After", "1"))
+                                .andExpect(jsonPath("$.status").value(503));
+        }
+
         @Test
         void resetPasswordRequest_ShouldReturnSuccessMessage() throws Exception {
                 doNothing().when(authUseCase).resetPasswordRequest("john@example.com");
@@ -202,4 +247,110 @@ class AuthControllerTest {
                                 .andExpect(jsonPath("$.message").value("Passenger not found"));
         }
 
+        @Test
+        void jwks_ShouldReturnKeySet_WithCachingHeaders() throws Exception {
+                JwkSetDTO jwkSet = new JwkSetDTO(List.of(new JwkDTO("OKP", "Ed25519", "x-value", null, "kid-1", "sig", "EdDSA")));
+                Mockito.when(authUseCase.getJwkSet()).thenReturn(jwkSet);
+
+                mockMvc.perform(get("/.well-known/jwks.json"))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andExpect(header().string("Cache-Control", "max-age=300, public"))
+                                .andExpect(jsonPath("$.keys[0].kid").value("kid-1"))
+                                .andExpect(jsonPath("$.keys[0].y").doesNotExist());
+        }
+
+        @Test
+        void jwks_ShouldReturnNotModified_WhenETagMatches() throws Exception {
+                JwkSetDTO jwkSet = new JwkSetDTO(List.of(new JwkDTO("OKP", "Ed25519", "x-value", null, "kid-1", "sig", "EdDSA")));
+                Mockito.when(authUseCase.getJwkSet()).thenReturn(jwkSet);
+                String etag = mockMvc.perform(get("/.well-known/jwks.json"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/.well-known/jwks.json").header("If-None-Match", etag))
+                                .andExpect(status().isNotModified());
+        }
+
+        @Test
+        void jwks_ShouldReturnNotModified_ForWeakAndMultiValueValidators() throws Exception {
+                JwkSetDTO jwkSet = new JwkSetDTO(List.of(new JwkDTO("OKP", "Ed25519", "x-value", null, "kid-1", "sig", "EdDSA")));
+                Mockito.when(authUseCase.getJwkSet()).thenReturn(jwkSet);
+                String etag = mockMvc.perform(get("/.well-known/jwks.json"))
+                                .andReturn().getResponse().getHeader("ETag");
+
+                mockMvc.perform(get("/.well-known/jwks.json").header("If-None-Match", "W/" + etag))
+                                .andExpect(status().isNotModified());
+                mockMvc.perform(get("/.well-known/jwks.json").header("If-None-Match", "\"stale\", " + etag))
+                                .andExpect(status().isNotModified());
+                mockMvc.perform(get("/.well-known/jwks.json").header("If-None-Match", "*"))
+                                .andExpect(status().isNotModified());
+                mockMvc.perform(get("/.well-known/jwks.json").header("If-None-Match", "\"stale\""))
+                                .andExpect(status().isOk());
+        }
+
+        @Test
+        void jwks_ShouldReturnSameETag_RegardlessOfKeyOrder() throws Exception {
+                JwkDTO first = new JwkDTO("OKP", "Ed25519", "x-value", null, "kid-1", "sig", "EdDSA");
+                JwkDTO second = new JwkDTO("OKP", "Ed25519", "x-other", null, "kid-2", "sig", "EdDSA");
+                Mockito.when(authUseCase.getJwkSet()).thenReturn(new JwkSetDTO(List.of(first, second)));
+                String etag = mockMvc.perform(get("/.well-known/jwks.json"))
+                                .andReturn().getResponse().getHeader("ETag");
+                Mockito.when(authUseCase.getJwkSet()).thenReturn(new JwkSetDTO(List.of(second, first)));
+
+                mockMvc.perform(get("/.well-known/jwks.json"))
+                                .andExpect(header().string("ETag", etag));
+        }
+
+        @Test
+        void introspect_ShouldReturnClaims_WhenTokenIsActive() throws Exception {
+                IntrospectionResponseDTO response = new IntrospectionResponseDTO(true, 1L, "john@example.com", "John", "DRIVER", 1893456000L);
+                Mockito.when(authUseCase.introspect("jwt-token")).thenReturn(response);
+
+                mockMvc.perform(post("/introspect")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("token", "jwt-token"))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.active").value(true))
+                                .andExpect(jsonPath("$.data.email").value("john@example.com"))
+                                .andExpect(jsonPath("$.data.exp").value(1893456000L));
+        }
+
+        @Test
+        void introspect_ShouldReturnInactive_WhenTokenIsInvalid() throws Exception {
+                Mockito.when(authUseCase.introspect("bad-token")).thenReturn(IntrospectionResponseDTO.inactive());
+
+                mockMvc.perform(post("/introspect")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("token", "bad-token"))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.data.active").value(false))
+                                .andExpect(jsonPath("$.data.userId").doesNotExist());
+        }
+
+        @Test
+        void refresh_ShouldReturnNewTokens_WhenRefreshTokenIsValid() throws Exception {
+                LoginResponseDTO response = new LoginResponseDTO("new-jwt", 1L, "John", "john@example.com", "DRIVER", "new-refresh");
+                Mockito.when(authUseCase.refresh("old-refresh")).thenReturn(response);
+
+                mockMvc.perform(post("/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("refreshToken", "old-refresh"))))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.message").value("Token refresh successful"))
+                                .andExpect(jsonPath("$.data.accessToken").value("new-jwt"))
+                                .andExpect(jsonPath("$.data.refreshToken").value("new-refresh"));
+        }
+
+        @Test
+        void refresh_ShouldReturnUnauthorized_WhenRefreshTokenIsReused() throws Exception {
+                Mockito.when(authUseCase.refresh("used-refresh"))
+                                .thenThrow(new IllegalArgumentException("Refresh token reuse detected"));
+
+                mockMvc.perform(post("/refresh")
+                                .contentType(MediaType.APPLICATION_JSON)
+                                .content(objectMapper.writeValueAsString(Map.of("refreshToken", "used-refresh"))))
+                                .andExpect(status().isUnauthorized())
+                                .andExpect(jsonPath("$.message").value("Refresh token reuse detected"));
+        }
+
 }